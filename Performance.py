@@ -1,3 +1,7 @@
+import json
+import sys
+
+
 class PerformanceChecker:
     def __init__(self, ticks_per_second, players_online, events_per_player_per_tick):
         self.ticks_per_second = ticks_per_second
@@ -18,10 +22,33 @@ class PerformanceChecker:
         print()
 
 
+# Multipliers converting the throughput units reported by JMH to operations per second
+OPS_PER_SECOND = {"ops/ns": 1e9, "ops/us": 1e6, "ops/ms": 1e3, "ops/s": 1, "ops/min": 1 / 60}
+
+
+def read_results(path):
+    """Reads the throughput results of a JMH JSON report, returning (name, ops/s) pairs."""
+    with open(path) as file:
+        results = json.load(file)
+
+    for result in results:
+        if result["mode"] != "thrpt":
+            continue
+        metric = result["primaryMetric"]
+        params = result.get("params", {})
+        name = result["benchmark"].rsplit(".", 2)[-2] + "." + result["benchmark"].rsplit(".", 1)[-1]
+        if params:
+            name += " " + ", ".join(key + "=" + value for key, value in sorted(params.items()))
+        if result["threads"] > 1:
+            name += " (" + str(result["threads"]) + " threads)"
+        yield name, metric["score"] * OPS_PER_SECOND[metric["scoreUnit"]]
+
+
 if __name__ == "__main__":
+    # Produced by: mvn -P benchmark
+    result_file = sys.argv[1] if len(sys.argv) > 1 else "target/jmh-result.json"
+
     checker = PerformanceChecker(ticks_per_second=20, players_online=1000, events_per_player_per_tick=1)
-    checker.check_performance(14.760e6)
-    checker.check_performance(16.133e6)
-    checker.check_performance(13.1e6)
-    checker.check_performance(9e6)
-    checker.check_performance(6e6)
\ No newline at end of file
+    for benchmark, ops in read_results(result_file):
+        print(benchmark)
+        checker.check_performance(ops)
@@ -0,0 +1,36 @@
+package dev.utano.eventbus.bridge;
+
+import dev.utano.eventbus.event.Event;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes the events of a class into the compact binary records of a shared-memory ring, and decodes them back.
+ * <p>
+ * Codecs read and write the mapped memory directly: the buffer passed to {@link #encode(Event, ByteBuffer)} is positioned
+ * at the payload of the record being written, and the buffer passed to {@link #decode(ByteBuffer)} is limited to the payload
+ * of the record being read, so decoding never copies the record.
+ *
+ * @param <E> The type of the events.
+ * @see EventCodecRegistry
+ */
+public interface EventCodec<E extends Event> {
+
+	/**
+	 * Writes the payload of the event at the position of the buffer.
+	 *
+	 * @param event  The event to encode.
+	 * @param buffer The buffer, whose limit is the maximum size of a record.
+	 * @throws java.nio.BufferOverflowException if the payload exceeds the maximum size of a record.
+	 */
+	void encode(E event, ByteBuffer buffer);
+
+	/**
+	 * Reads an event from the payload between the position and the limit of the buffer.
+	 *
+	 * @param buffer The buffer, a view of the mapped memory.
+	 * @return The decoded event.
+	 */
+	E decode(ByteBuffer buffer);
+
+}
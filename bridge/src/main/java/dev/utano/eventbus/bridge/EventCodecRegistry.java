@@ -0,0 +1,85 @@
+package dev.utano.eventbus.bridge;
+
+import dev.utano.eventbus.event.Event;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Associates the event classes forwarded through a shared-memory ring with their codec and their type id.
+ * <p>
+ * Publishers and subscribers must register the same codecs under the same type ids. Codecs have to be registered
+ * before the registry is used by a publisher or a subscriber, the registry is not modified afterwards.
+ */
+public class EventCodecRegistry {
+
+	private final Map<Class<?>, Entry> entriesByClass = new HashMap<>();
+	private Entry[] entriesById = new Entry[16];
+
+	/**
+	 * Registers the codec of an event class.
+	 *
+	 * @param typeId     The id identifying the class in the records, non-negative and shared by every process.
+	 * @param eventClass The concrete class of the events.
+	 * @param codec      The codec of the events.
+	 * @param <E>        The type of the events.
+	 * @return The registry.
+	 * @throws IllegalArgumentException if the type id is negative or already in use, or the class already registered.
+	 */
+	public <E extends Event> EventCodecRegistry register(int typeId, Class<E> eventClass, EventCodec<E> codec) throws IllegalArgumentException {
+		if (typeId < 0)
+			throw new IllegalArgumentException("The type id of " + eventClass.getName() + " must not be negative.");
+		if (typeId < entriesById.length && entriesById[typeId] != null)
+			throw new IllegalArgumentException("The type id " + typeId + " is already used by " + entriesById[typeId].eventClass.getName() + ".");
+		if (entriesByClass.containsKey(eventClass))
+			throw new IllegalArgumentException("The class " + eventClass.getName() + " is already registered.");
+
+		Entry entry = new Entry(typeId, eventClass, codec);
+		if (typeId >= entriesById.length)
+			entriesById = Arrays.copyOf(entriesById, Math.max(typeId + 1, entriesById.length * 2));
+		entriesById[typeId] = entry;
+		entriesByClass.put(eventClass, entry);
+		return this;
+	}
+
+	/**
+	 * @param eventClass The concrete class of the events.
+	 * @return The entry of the class, null if it has not been registered.
+	 */
+	Entry get(Class<?> eventClass) {
+		return entriesByClass.get(eventClass);
+	}
+
+	/**
+	 * @param typeId The type id of a record.
+	 * @return The entry of the type id, null if it has not been registered.
+	 */
+	Entry get(int typeId) {
+		return typeId >= 0 && typeId < entriesById.length ? entriesById[typeId] : null;
+	}
+
+	/**
+	 * @param eventClass The concrete class of the events.
+	 * @return whether the class has been registered.
+	 */
+	public boolean isRegistered(Class<? extends Event> eventClass) {
+		return entriesByClass.containsKey(eventClass);
+	}
+
+	static final class Entry {
+
+		final int typeId;
+		final Class<?> eventClass;
+		final EventCodec<Event> codec;
+
+		@SuppressWarnings("unchecked")
+		private Entry(int typeId, Class<?> eventClass, EventCodec<?> codec) {
+			this.typeId = typeId;
+			this.eventClass = eventClass;
+			this.codec = (EventCodec<Event>) codec;
+		}
+
+	}
+
+}
@@ -0,0 +1,155 @@
+package dev.utano.eventbus.bridge;
+
+import dev.utano.eventbus.EventBus;
+import dev.utano.eventbus.Registration;
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.event.priority.EventPriority;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Publishes events into a memory-mapped ring, from which {@link SharedMemorySubscriber}s of other processes on the same
+ * machine re-fire them on their own EventBus.
+ * <p>
+ * The ring has a single producer: events are published by the first thread publishing one, and publishing from
+ * another thread throws an {@link IllegalStateException}. Publishing never blocks nor waits for the subscribers,
+ * a record is encoded in place in the mapped memory and made visible by a single ordered write of the producer position.
+ */
+public class SharedMemoryPublisher implements AutoCloseable {
+
+	/**
+	 * The default size of the records region, 16 MiB.
+	 */
+	public static final int DEFAULT_CAPACITY = 1 << 24;
+	/**
+	 * The default maximum size of the payload of a record.
+	 */
+	public static final int DEFAULT_MAX_RECORD_SIZE = 4096;
+
+	private final SharedMemoryRing ring;
+	private final EventCodecRegistry codecs;
+	private final ByteBuffer records;
+	private final ByteBuffer payload;
+	private final List<Registration> registrations = new ArrayList<>();
+	private final AtomicReference<Thread> owner = new AtomicReference<>();
+	private long position;
+
+	/**
+	 * Creates the ring file with the default capacity and maximum record size.
+	 *
+	 * @param file   The file of the ring, preferably on a memory-backed file system such as {@code /dev/shm}.
+	 * @param codecs The codecs of the published events.
+	 * @throws IOException if the file cannot be created or mapped.
+	 */
+	public SharedMemoryPublisher(Path file, EventCodecRegistry codecs) throws IOException {
+		this(file, codecs, DEFAULT_CAPACITY, DEFAULT_MAX_RECORD_SIZE);
+	}
+
+	/**
+	 * Creates the ring file, replacing any existing one.
+	 *
+	 * @param file          The file of the ring, preferably on a memory-backed file system such as {@code /dev/shm}.
+	 * @param codecs        The codecs of the published events.
+	 * @param capacity      The size of the records region, a power of two.
+	 * @param maxRecordSize The maximum size of the payload of a record.
+	 * @throws IOException if the file cannot be created or mapped.
+	 */
+	public SharedMemoryPublisher(Path file, EventCodecRegistry codecs, int capacity, int maxRecordSize) throws IOException {
+		this.ring = SharedMemoryRing.create(file, capacity, maxRecordSize);
+		this.codecs = codecs;
+		this.records = ring.view();
+		this.payload = ring.view();
+	}
+
+	/**
+	 * Subscribes to the specified event classes on the EventBus, publishing their events once every other handler has run.
+	 * Cancelled events are not published, nor are the events of subclasses which have not been attached themselves,
+	 * so that an event is published once even if both its class and a superclass have been attached.
+	 * The events must be fired by a single thread.
+	 *
+	 * @param eventBus     The EventBus firing the events.
+	 * @param eventClasses The classes of the events, registered in the codecs.
+	 * @return The publisher.
+	 * @throws IllegalArgumentException if one of the classes has no codec.
+	 */
+	@SafeVarargs
+	public final SharedMemoryPublisher attach(EventBus eventBus, Class<? extends Event>... eventClasses) throws IllegalArgumentException {
+		for (Class<? extends Event> eventClass : eventClasses)
+			if (!codecs.isRegistered(eventClass))
+				throw new IllegalArgumentException("No codec is registered for " + eventClass.getName() + ".");
+
+		for (Class<? extends Event> eventClass : eventClasses)
+			registrations.add(eventBus.subscribe(eventClass, event -> {
+				if (event.getClass() == eventClass)
+					publish(event);
+			}, EventPriority.MONITOR, true));
+		return this;
+	}
+
+	/**
+	 * Encodes the event into the ring.
+	 *
+	 * @param event The event to publish.
+	 * @throws IllegalArgumentException if the class of the event has no codec or its payload exceeds the maximum record size.
+	 * @throws IllegalStateException    if the publisher is used by another thread.
+	 */
+	public void publish(Event event) throws IllegalArgumentException, IllegalStateException {
+		Thread thread = Thread.currentThread();
+		if (owner.get() != thread && !owner.compareAndSet(null, thread))
+			throw new IllegalStateException("The publisher is owned by " + owner.get().getName() + ", it cannot be used by " + thread.getName() + ".");
+
+		EventCodecRegistry.Entry entry = codecs.get(event.getClass());
+		if (entry == null)
+			throw new IllegalArgumentException("No codec is registered for " + event.getClass().getName() + ".");
+
+		int offset = ring.offset(position);
+		int remaining = ring.getCapacity() - (offset - SharedMemoryRing.HEADER_SIZE);
+		if (remaining < ring.getMaxRecordSpan()) {
+			// Records are contiguous, the end of the ring is skipped by a padding record
+			records.putInt(offset, remaining - SharedMemoryRing.RECORD_HEADER_SIZE);
+			records.putInt(offset + 4, SharedMemoryRing.PADDING_TYPE_ID);
+			position += remaining;
+			offset = SharedMemoryRing.HEADER_SIZE;
+		}
+
+		int payloadOffset = offset + SharedMemoryRing.RECORD_HEADER_SIZE;
+		payload.clear();
+		payload.limit(payloadOffset + ring.getMaxRecordSize());
+		payload.position(payloadOffset);
+		try {
+			entry.codec.encode(event, payload);
+		} catch (BufferOverflowException e) {
+			throw new IllegalArgumentException("The payload of " + event.getClass().getName() + " exceeds " + ring.getMaxRecordSize() + " bytes.", e);
+		}
+
+		int length = payload.position() - payloadOffset;
+		records.putInt(offset, length);
+		records.putInt(offset + 4, entry.typeId);
+		position += SharedMemoryRing.align(SharedMemoryRing.RECORD_HEADER_SIZE + length);
+		ring.setProducerPosition(position);
+	}
+
+	/**
+	 * @return the number of bytes published since the creation of the ring.
+	 */
+	public long getPosition() {
+		return position;
+	}
+
+	/**
+	 * Unsubscribes from the EventBuses the publisher has been attached to. The ring file is left to the subscribers.
+	 */
+	@Override
+	public void close() {
+		for (Registration registration : registrations)
+			registration.close();
+		registrations.clear();
+	}
+
+}
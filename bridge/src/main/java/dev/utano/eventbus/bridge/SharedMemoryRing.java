@@ -0,0 +1,172 @@
+package dev.utano.eventbus.bridge;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The layout of a single-producer ring buffer of event records in a memory-mapped file.
+ * <p>
+ * The file starts with a header holding the layout of the ring and, on its own cache line, the position of the producer:
+ * the number of bytes written since the creation of the ring, published with release semantics once a record is complete.
+ * Records follow, aligned to 8 bytes: the length of the payload, the type id of the event, then the payload.
+ * A record never wraps around the end of the ring, the space left is filled with a padding record instead.
+ * <p>
+ * The producer never waits for the subscribers: a subscriber falling behind by more than the capacity of the ring
+ * loses the events it has not read, and detects it by comparing its position with the producer's.
+ */
+final class SharedMemoryRing {
+
+	static final int MAGIC = 0x45564252; // "EVBR"
+	static final int VERSION = 1;
+
+	static final int MAGIC_OFFSET = 0;
+	static final int VERSION_OFFSET = 4;
+	static final int CAPACITY_OFFSET = 8;
+	static final int MAX_RECORD_SIZE_OFFSET = 12;
+	static final int PRODUCER_POSITION_OFFSET = 64;
+	static final int HEADER_SIZE = 128;
+
+	static final int RECORD_HEADER_SIZE = 8;
+	static final int PADDING_TYPE_ID = -1;
+
+	static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+	private static final VarHandle LONG_VIEW = MethodHandles.byteBufferViewVarHandle(long[].class, BYTE_ORDER);
+
+	private final MappedByteBuffer buffer;
+	private final int capacity;
+	private final int maxRecordSize;
+
+	private SharedMemoryRing(MappedByteBuffer buffer, int capacity, int maxRecordSize) {
+		this.buffer = buffer;
+		this.capacity = capacity;
+		this.maxRecordSize = maxRecordSize;
+	}
+
+	/**
+	 * Creates the file of a ring, replacing any existing one.
+	 *
+	 * @param file          The file.
+	 * @param capacity      The size of the records region, a power of two.
+	 * @param maxRecordSize The maximum size of the payload of a record.
+	 * @return The ring.
+	 * @throws IOException if the file cannot be created or mapped.
+	 */
+	static SharedMemoryRing create(Path file, int capacity, int maxRecordSize) throws IOException {
+		if (Integer.bitCount(capacity) != 1)
+			throw new IllegalArgumentException("The capacity must be a power of two, got " + capacity + ".");
+		if (maxRecordSize <= 0 || align(RECORD_HEADER_SIZE + maxRecordSize) * 4 > capacity)
+			throw new IllegalArgumentException("The maximum record size must be positive and fit four times in the capacity, got " + maxRecordSize + ".");
+
+		MappedByteBuffer buffer = map(file, HEADER_SIZE + capacity, FileChannel.MapMode.READ_WRITE,
+				StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		buffer.putInt(VERSION_OFFSET, VERSION);
+		buffer.putInt(CAPACITY_OFFSET, capacity);
+		buffer.putInt(MAX_RECORD_SIZE_OFFSET, maxRecordSize);
+		LONG_VIEW.setRelease(buffer, PRODUCER_POSITION_OFFSET, 0L);
+		// Written last, so that subscribers never attach to a ring whose header is incomplete
+		buffer.putInt(MAGIC_OFFSET, MAGIC);
+		return new SharedMemoryRing(buffer, capacity, maxRecordSize);
+	}
+
+	/**
+	 * Maps the file of an existing ring.
+	 *
+	 * @param file The file, created by a publisher.
+	 * @return The ring.
+	 * @throws IOException if the file cannot be mapped or is not a ring.
+	 */
+	static SharedMemoryRing open(Path file) throws IOException {
+		MappedByteBuffer header = map(file, HEADER_SIZE, FileChannel.MapMode.READ_ONLY, StandardOpenOption.READ);
+		if (header.getInt(MAGIC_OFFSET) != MAGIC || header.getInt(VERSION_OFFSET) != VERSION)
+			throw new IOException("The file " + file + " is not an event ring of version " + VERSION + ".");
+
+		int capacity = header.getInt(CAPACITY_OFFSET);
+		int maxRecordSize = header.getInt(MAX_RECORD_SIZE_OFFSET);
+		return new SharedMemoryRing(map(file, HEADER_SIZE + capacity, FileChannel.MapMode.READ_ONLY, StandardOpenOption.READ), capacity, maxRecordSize);
+	}
+
+	private static MappedByteBuffer map(Path file, int size, FileChannel.MapMode mode, StandardOpenOption... options) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, options)) {
+			// Mapping for writing extends the file, mapping for reading requires it to be complete
+			if (mode == FileChannel.MapMode.READ_ONLY && channel.size() < size)
+				throw new IOException("The file " + file + " is smaller than the mapped region.");
+			MappedByteBuffer buffer = channel.map(mode, 0, size);
+			buffer.order(BYTE_ORDER);
+			return buffer;
+		}
+	}
+
+	/**
+	 * @return the position of the producer, read with acquire semantics.
+	 */
+	long getProducerPosition() {
+		return (long) LONG_VIEW.getAcquire(buffer, PRODUCER_POSITION_OFFSET);
+	}
+
+	/**
+	 * Publishes the position of the producer with release semantics, making the records written before it visible.
+	 *
+	 * @param position The new position of the producer.
+	 */
+	void setProducerPosition(long position) {
+		LONG_VIEW.setRelease(buffer, PRODUCER_POSITION_OFFSET, position);
+	}
+
+	/**
+	 * @return a view of the whole mapped file, sharing its memory.
+	 */
+	ByteBuffer view() {
+		return buffer.duplicate().order(BYTE_ORDER);
+	}
+
+	/**
+	 * @param position A position in the ring.
+	 * @return The offset of the position within the mapped file.
+	 */
+	int offset(long position) {
+		return HEADER_SIZE + (int) (position & (capacity - 1));
+	}
+
+	int getCapacity() {
+		return capacity;
+	}
+
+	int getMaxRecordSize() {
+		return maxRecordSize;
+	}
+
+	/**
+	 * @return the size of the largest record, header included.
+	 */
+	int getMaxRecordSpan() {
+		return align(RECORD_HEADER_SIZE + maxRecordSize);
+	}
+
+	/**
+	 * Checks whether the producer may have overwritten the records following the specified position.
+	 * While a record is being written, the producer may write a padding record and a full record past its published position.
+	 *
+	 * @param producerPosition The position of the producer.
+	 * @param position         The position of a subscriber.
+	 * @return whether the subscriber has been lapped by the producer.
+	 */
+	boolean isLapped(long producerPosition, long position) {
+		return producerPosition - position > capacity - 2L * getMaxRecordSpan();
+	}
+
+	/**
+	 * @param size A size in bytes.
+	 * @return The size rounded up to a multiple of 8.
+	 */
+	static int align(int size) {
+		return (size + 7) & ~7;
+	}
+
+}
@@ -0,0 +1,163 @@
+package dev.utano.eventbus.bridge;
+
+import dev.utano.eventbus.EventBus;
+import dev.utano.eventbus.event.Event;
+
+import java.io.IOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * Reads the events published by a {@link SharedMemoryPublisher} of another process and fires them on an EventBus.
+ * <p>
+ * Subscribers are independent of each other and invisible to the publisher: they only read the mapped memory,
+ * without any lock nor write, and decode the records in place. A subscriber starts at the current position of the
+ * publisher, and loses the events it has not read when the publisher laps it, which {@link #getLapCount()} reports.
+ * Each subscriber must be polled by a single thread.
+ */
+public class SharedMemorySubscriber implements AutoCloseable {
+
+	private final SharedMemoryRing ring;
+	private final EventCodecRegistry codecs;
+	private final EventBus eventBus;
+	private final ByteBuffer records;
+	private final ByteBuffer payload;
+	private long position;
+	private long lapCount;
+	private long unknownCount;
+	private boolean closed;
+
+	/**
+	 * Maps the ring file created by a publisher.
+	 *
+	 * @param file     The file of the ring.
+	 * @param codecs   The codecs of the published events.
+	 * @param eventBus The EventBus firing the events.
+	 * @throws IOException if the file cannot be mapped or is not a ring.
+	 */
+	public SharedMemorySubscriber(Path file, EventCodecRegistry codecs, EventBus eventBus) throws IOException {
+		this.ring = SharedMemoryRing.open(file);
+		this.codecs = codecs;
+		this.eventBus = eventBus;
+		this.records = ring.view();
+		this.payload = ring.view();
+		this.position = ring.getProducerPosition();
+	}
+
+	/**
+	 * Fires the events published since the last poll.
+	 *
+	 * @return The number of events fired.
+	 */
+	public int poll() {
+		return poll(Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Fires at most the specified number of the events published since the last poll.
+	 * <p>
+	 * A record whose codec fails to decode it is skipped before the failure is thrown, so that the next poll resumes
+	 * with the following record.
+	 *
+	 * @param limit The maximum number of events to fire.
+	 * @return The number of events fired.
+	 * @throws RuntimeException the exception thrown by a codec while decoding a record.
+	 */
+	public int poll(int limit) throws RuntimeException {
+		if (closed)
+			return 0;
+
+		long producerPosition = ring.getProducerPosition();
+		int count = 0;
+		while (count < limit && position < producerPosition) {
+			if (ring.isLapped(producerPosition, position)) {
+				skipTo(producerPosition);
+				break;
+			}
+
+			int offset = ring.offset(position);
+			int length = records.getInt(offset);
+			int typeId = records.getInt(offset + 4);
+			boolean padding = typeId == SharedMemoryRing.PADDING_TYPE_ID;
+			boolean valid = length >= 0 && length <= (padding ? ring.getMaxRecordSpan() - SharedMemoryRing.RECORD_HEADER_SIZE : ring.getMaxRecordSize());
+
+			Event event = null;
+			EventCodecRegistry.Entry entry = padding || !valid ? null : codecs.get(typeId);
+			RuntimeException failure = null;
+			if (entry != null) {
+				int payloadOffset = offset + SharedMemoryRing.RECORD_HEADER_SIZE;
+				payload.clear();
+				payload.limit(payloadOffset + length);
+				payload.position(payloadOffset);
+				try {
+					event = entry.codec.decode(payload);
+				} catch (RuntimeException e) {
+					failure = e;
+				}
+			}
+
+			// The record, padding included, is only valid if the producer has not started overwriting it while it was read
+			VarHandle.acquireFence();
+			producerPosition = ring.getProducerPosition();
+			if (ring.isLapped(producerPosition, position)) {
+				skipTo(producerPosition);
+				break;
+			}
+			if (!valid) {
+				// The record boundaries cannot be followed anymore, resuming at the position of the producer
+				skipTo(producerPosition);
+				break;
+			}
+
+			position += SharedMemoryRing.align(SharedMemoryRing.RECORD_HEADER_SIZE + length);
+			if (padding)
+				continue;
+			if (failure != null)
+				throw failure;
+			if (event == null) {
+				unknownCount++;
+				continue;
+			}
+			eventBus.fireEvent(event);
+			count++;
+		}
+		return count;
+	}
+
+	private void skipTo(long producerPosition) {
+		lapCount++;
+		position = producerPosition;
+	}
+
+	/**
+	 * @return the number of bytes the publisher has written and this subscriber has not read yet.
+	 */
+	public long getBacklog() {
+		return ring.getProducerPosition() - position;
+	}
+
+	/**
+	 * @return the number of times the publisher has lapped this subscriber, each time losing the events left unread.
+	 * Resuming at the position of the publisher after reading a corrupted record is counted as a lap as well.
+	 */
+	public long getLapCount() {
+		return lapCount;
+	}
+
+	/**
+	 * @return the number of records skipped because their type id has no codec in this process.
+	 */
+	public long getUnknownCount() {
+		return unknownCount;
+	}
+
+	/**
+	 * Stops reading the ring, the mapping is released once the subscriber is garbage collected.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+	}
+
+}
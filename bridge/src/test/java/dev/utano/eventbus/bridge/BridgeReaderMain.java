@@ -0,0 +1,33 @@
+package dev.utano.eventbus.bridge;
+
+import dev.utano.eventbus.EventBus;
+
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The reading process of {@link SharedMemoryBridgeTest#multiProcessTest()}: prints {@code READY} once attached,
+ * then {@code <received> <laps>} once every event has been received.
+ */
+public class BridgeReaderMain {
+
+	public static void main(String[] args) throws Exception {
+		int events = Integer.parseInt(args[1]);
+		int[] received = new int[1];
+		EventBus eventBus = new EventBus();
+		eventBus.subscribe(PriceEvent.class, event -> received[0]++);
+
+		try (SharedMemorySubscriber subscriber = new SharedMemorySubscriber(Paths.get(args[0]), PriceEvent.codecs(), eventBus)) {
+			System.out.println("READY");
+			System.out.flush();
+
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+			while (received[0] < events && subscriber.getLapCount() == 0 && System.nanoTime() < deadline)
+				if (subscriber.poll() == 0)
+					Thread.onSpinWait();
+
+			System.out.println(received[0] + " " + subscriber.getLapCount());
+		}
+	}
+
+}
@@ -0,0 +1,49 @@
+package dev.utano.eventbus.bridge;
+
+import dev.utano.eventbus.event.Event;
+
+import java.nio.ByteBuffer;
+
+public class PriceEvent extends Event {
+
+	public static final EventCodec<PriceEvent> CODEC = new EventCodec<PriceEvent>() {
+		@Override
+		public void encode(PriceEvent event, ByteBuffer buffer) {
+			buffer.putLong(event.instrumentId);
+			buffer.putDouble(event.price);
+			buffer.putLong(event.timestampNanos);
+		}
+
+		@Override
+		public PriceEvent decode(ByteBuffer buffer) {
+			return new PriceEvent(buffer.getLong(), buffer.getDouble(), buffer.getLong());
+		}
+	};
+
+	private final long instrumentId;
+	private final double price;
+	private final long timestampNanos;
+
+	public PriceEvent(long instrumentId, double price, long timestampNanos) {
+		this.instrumentId = instrumentId;
+		this.price = price;
+		this.timestampNanos = timestampNanos;
+	}
+
+	public static EventCodecRegistry codecs() {
+		return new EventCodecRegistry().register(1, PriceEvent.class, CODEC);
+	}
+
+	public long getInstrumentId() {
+		return instrumentId;
+	}
+
+	public double getPrice() {
+		return price;
+	}
+
+	public long getTimestampNanos() {
+		return timestampNanos;
+	}
+
+}
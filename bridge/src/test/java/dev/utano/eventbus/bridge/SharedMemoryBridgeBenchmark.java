@@ -0,0 +1,76 @@
+package dev.utano.eventbus.bridge;
+
+import dev.utano.eventbus.EventBus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures publishing events into a shared-memory ring, and the round trip of a batch of events
+ * from the publisher through a subscriber mapping the same file to the handlers of another EventBus.
+ * {@link SharedMemoryBridgeTest#multiProcessTest()} measures the same path across two processes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SharedMemoryBridgeBenchmark {
+
+	private static final int BATCH_SIZE = 64;
+
+	private Path file;
+	private SharedMemoryPublisher publisher;
+	private SharedMemorySubscriber subscriber;
+	private PriceEvent[] events;
+	private long received;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		file = Files.createTempFile("eventbus", ".ring");
+		publisher = new SharedMemoryPublisher(file, PriceEvent.codecs());
+
+		EventBus eventBus = new EventBus();
+		eventBus.subscribe(PriceEvent.class, event -> received++);
+		subscriber = new SharedMemorySubscriber(file, PriceEvent.codecs(), eventBus);
+
+		events = new PriceEvent[BATCH_SIZE];
+		for (int i = 0; i < events.length; i++)
+			events[i] = new PriceEvent(i, i * 0.5, i);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		subscriber.close();
+		publisher.close();
+		Files.deleteIfExists(file);
+	}
+
+	@Benchmark
+	public long benchmarkPublish() {
+		for (PriceEvent event : events)
+			publisher.publish(event);
+		return publisher.getPosition();
+	}
+
+	@Benchmark
+	public int benchmarkRoundTrip() {
+		for (PriceEvent event : events)
+			publisher.publish(event);
+		return subscriber.poll();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(SharedMemoryBridgeBenchmark.class.getSimpleName())
+				.forks(1)
+				.build();
+
+		new Runner(opt).run();
+	}
+}
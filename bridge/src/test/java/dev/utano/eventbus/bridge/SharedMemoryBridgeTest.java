@@ -0,0 +1,267 @@
+package dev.utano.eventbus.bridge;
+
+import dev.utano.eventbus.EventBus;
+import dev.utano.eventbus.event.Cancellable;
+import dev.utano.eventbus.event.Event;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SharedMemoryBridgeTest {
+
+	private Path file;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		file = Files.createTempFile("eventbus", ".ring");
+	}
+
+	@AfterEach
+	public void cleanup() throws Exception {
+		Files.deleteIfExists(file);
+	}
+
+	@Test
+	public void roundTripTest() throws Exception {
+		EventBus source = new EventBus();
+		EventBus target = new EventBus();
+		List<PriceEvent> received = new ArrayList<>();
+		target.subscribe(PriceEvent.class, received::add);
+
+		try (SharedMemoryPublisher publisher = new SharedMemoryPublisher(file, PriceEvent.codecs()).attach(source, PriceEvent.class);
+			 SharedMemorySubscriber subscriber = new SharedMemorySubscriber(file, PriceEvent.codecs(), target)) {
+			source.fireEvent(new PriceEvent(7, 12.5, 42));
+			source.fireEvent(new PriceEvent(8, 13.5, 43));
+			assertEquals(64, publisher.getPosition(), "Each record should take a header and its payload, aligned.");
+			assertEquals(2, subscriber.poll(), "Both events should be fired by the subscriber.");
+			assertEquals(0, subscriber.poll(), "Events should only be fired once.");
+			assertEquals(0, subscriber.getBacklog(), "The subscriber should have caught up with the publisher.");
+		}
+
+		assertEquals(2, received.size(), "Both events should be received.");
+		assertEquals(7, received.get(0).getInstrumentId(), "The fields should be decoded.");
+		assertEquals(12.5, received.get(0).getPrice(), "The fields should be decoded.");
+		assertEquals(43, received.get(1).getTimestampNanos(), "The fields should be decoded in order.");
+	}
+
+	@Test
+	public void attachTest() throws Exception {
+		EventBus source = new EventBus();
+		source.subscribe(CancellablePriceEvent.class, event -> event.setCancelled(event.getInstrumentId() == 0));
+
+		EventCodecRegistry codecs = new EventCodecRegistry().register(2, CancellablePriceEvent.class, new EventCodec<CancellablePriceEvent>() {
+			@Override
+			public void encode(CancellablePriceEvent event, ByteBuffer buffer) {
+				buffer.putLong(event.getInstrumentId());
+			}
+
+			@Override
+			public CancellablePriceEvent decode(ByteBuffer buffer) {
+				return new CancellablePriceEvent(buffer.getLong());
+			}
+		});
+		SharedMemoryPublisher publisher = new SharedMemoryPublisher(file, codecs).attach(source, CancellablePriceEvent.class);
+		try (SharedMemorySubscriber subscriber = new SharedMemorySubscriber(file, codecs, new EventBus())) {
+			source.fireEvent(new CancellablePriceEvent(0));
+			source.fireEvent(new CancellablePriceEvent(1));
+			assertEquals(1, subscriber.poll(), "Cancelled events should not be published.");
+
+			publisher.close();
+			source.fireEvent(new CancellablePriceEvent(2));
+			assertEquals(0, subscriber.poll(), "A closed publisher should no longer publish the events of the EventBus.");
+		}
+
+		assertThrows(IllegalArgumentException.class, () -> new SharedMemoryPublisher(file, codecs).attach(new EventBus(), PriceEvent.class),
+				"Attaching a class without codec should fail.");
+	}
+
+	@Test
+	public void subclassTest() throws Exception {
+		EventBus baseSource = new EventBus();
+		EventBus source = new EventBus();
+		EventCodecRegistry codecs = PriceEvent.codecs().register(3, IndexPriceEvent.class, new EventCodec<IndexPriceEvent>() {
+			@Override
+			public void encode(IndexPriceEvent event, ByteBuffer buffer) {
+				buffer.putLong(event.getInstrumentId());
+			}
+
+			@Override
+			public IndexPriceEvent decode(ByteBuffer buffer) {
+				return new IndexPriceEvent(buffer.getLong());
+			}
+		});
+		EventBus target = new EventBus();
+		List<PriceEvent> received = new ArrayList<>();
+		target.subscribe(PriceEvent.class, received::add);
+
+		try (SharedMemoryPublisher publisher = new SharedMemoryPublisher(file, codecs).attach(baseSource, PriceEvent.class).attach(source, PriceEvent.class, IndexPriceEvent.class);
+			 SharedMemorySubscriber subscriber = new SharedMemorySubscriber(file, codecs, target)) {
+			baseSource.fireEvent(new IndexPriceEvent(1));
+			assertEquals(0, publisher.getPosition(), "Subclasses which have not been attached should not be published.");
+
+			source.fireEvent(new IndexPriceEvent(2));
+			source.fireEvent(new PriceEvent(3, 3, 3));
+			assertEquals(2, subscriber.poll(), "Events attached along with their superclass should be published once.");
+		}
+		assertInstanceOf(IndexPriceEvent.class, received.get(0), "The subclass should be decoded by its own codec.");
+		assertEquals(2, received.get(0).getInstrumentId(), "The subclass should be published by the bus it has been attached to.");
+	}
+
+	@Test
+	public void wrapTest() throws Exception {
+		EventBus target = new EventBus();
+		List<PriceEvent> received = new ArrayList<>();
+		target.subscribe(PriceEvent.class, received::add);
+
+		// 1 KiB holds 32 records of 32 bytes, 10 000 events wrap around it hundreds of times
+		try (SharedMemoryPublisher publisher = new SharedMemoryPublisher(file, PriceEvent.codecs(), 1024, 56);
+			 SharedMemorySubscriber subscriber = new SharedMemorySubscriber(file, PriceEvent.codecs(), target)) {
+			for (int i = 0; i < 10_000; i++) {
+				publisher.publish(new PriceEvent(i, i, i));
+				if (i % 7 == 0)
+					subscriber.poll();
+			}
+			subscriber.poll();
+			assertEquals(0, subscriber.getLapCount(), "A subscriber keeping up should never be lapped.");
+		}
+
+		assertEquals(10_000, received.size(), "Every event should be received across the wraps.");
+		for (int i = 0; i < received.size(); i++)
+			assertEquals(i, received.get(i).getInstrumentId(), "The events should be received in order.");
+	}
+
+	@Test
+	public void lapTest() throws Exception {
+		EventBus target = new EventBus();
+		List<PriceEvent> received = new ArrayList<>();
+		target.subscribe(PriceEvent.class, received::add);
+
+		try (SharedMemoryPublisher publisher = new SharedMemoryPublisher(file, PriceEvent.codecs(), 1024, 56);
+			 SharedMemorySubscriber subscriber = new SharedMemorySubscriber(file, PriceEvent.codecs(), target)) {
+			for (int i = 0; i < 100; i++)
+				publisher.publish(new PriceEvent(i, i, i));
+			assertEquals(0, subscriber.poll(), "Events overwritten before being read should be dropped.");
+			assertEquals(1, subscriber.getLapCount(), "The lap should be reported.");
+
+			publisher.publish(new PriceEvent(100, 100, 100));
+			assertEquals(1, subscriber.poll(), "The subscriber should resume at the position of the publisher.");
+		}
+		assertEquals(100, received.get(0).getInstrumentId(), "Only the event published after the lap should be received.");
+	}
+
+	@Test
+	public void unknownTypeTest() throws Exception {
+		try (SharedMemoryPublisher publisher = new SharedMemoryPublisher(file, PriceEvent.codecs());
+			 SharedMemorySubscriber subscriber = new SharedMemorySubscriber(file, new EventCodecRegistry(), new EventBus())) {
+			publisher.publish(new PriceEvent(1, 1, 1));
+			assertEquals(0, subscriber.poll(), "Records without codec should not be fired.");
+			assertEquals(1, subscriber.getUnknownCount(), "Records without codec should be counted.");
+			assertThrows(IllegalArgumentException.class, () -> publisher.publish(new Event()), "Publishing an event without codec should fail.");
+		}
+	}
+
+	@Test
+	public void decodeFailureTest() throws Exception {
+		EventBus target = new EventBus();
+		List<PriceEvent> received = new ArrayList<>();
+		target.subscribe(PriceEvent.class, received::add);
+
+		boolean[] failed = new boolean[1];
+		EventCodecRegistry codecs = new EventCodecRegistry().register(1, PriceEvent.class, new EventCodec<PriceEvent>() {
+			@Override
+			public void encode(PriceEvent event, ByteBuffer buffer) {
+				PriceEvent.CODEC.encode(event, buffer);
+			}
+
+			@Override
+			public PriceEvent decode(ByteBuffer buffer) {
+				if (!failed[0]) {
+					failed[0] = true;
+					throw new IllegalArgumentException();
+				}
+				return PriceEvent.CODEC.decode(buffer);
+			}
+		});
+		try (SharedMemoryPublisher publisher = new SharedMemoryPublisher(file, PriceEvent.codecs());
+			 SharedMemorySubscriber subscriber = new SharedMemorySubscriber(file, codecs, target)) {
+			publisher.publish(new PriceEvent(1, 1, 1));
+			publisher.publish(new PriceEvent(2, 2, 2));
+			assertThrows(IllegalArgumentException.class, subscriber::poll, "The failure of the codec should be thrown.");
+			assertEquals(1, subscriber.poll(), "The record which failed to decode should be skipped.");
+			assertEquals(0, subscriber.getBacklog(), "The subscriber should have caught up with the publisher.");
+		}
+		assertEquals(2, received.get(0).getInstrumentId(), "Only the following event should be received.");
+	}
+
+	@Test
+	public void ownerTest() throws Exception {
+		try (SharedMemoryPublisher publisher = new SharedMemoryPublisher(file, PriceEvent.codecs())) {
+			publisher.publish(new PriceEvent(1, 1, 1));
+			ExecutionException exception = assertThrows(ExecutionException.class,
+					() -> CompletableFuture.runAsync(() -> publisher.publish(new PriceEvent(2, 2, 2))).get(), "Publishing from another thread should fail.");
+			assertInstanceOf(IllegalStateException.class, exception.getCause(), "The publisher should report the other thread.");
+		}
+	}
+
+	@Test
+	public void multiProcessTest() throws Exception {
+		int events = 100_000;
+		try (SharedMemoryPublisher publisher = new SharedMemoryPublisher(file, PriceEvent.codecs())) {
+			Process reader = new ProcessBuilder(Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+					"-cp", System.getProperty("java.class.path"), BridgeReaderMain.class.getName(), file.toString(), Integer.toString(events))
+					.redirectError(ProcessBuilder.Redirect.INHERIT)
+					.start();
+
+			try (BufferedReader output = new BufferedReader(new InputStreamReader(reader.getInputStream()))) {
+				assertEquals("READY", output.readLine(), "The reader should attach to the ring.");
+
+				for (int i = 0; i < events; i++)
+					publisher.publish(new PriceEvent(i, i * 0.5, i));
+
+				String[] result = output.readLine().split(" ");
+				assertTrue(reader.waitFor(60, TimeUnit.SECONDS), "The reader should exit once every event is received.");
+				assertEquals(Integer.toString(events), result[0], "The reader should receive every event.");
+				assertEquals("0", result[1], "The reader should never be lapped.");
+			} finally {
+				reader.destroy();
+			}
+		}
+	}
+
+	public static class IndexPriceEvent extends PriceEvent {
+
+		public IndexPriceEvent(long instrumentId) {
+			super(instrumentId, 0, 0);
+		}
+
+	}
+
+	public static class CancellablePriceEvent extends Event implements Cancellable {
+
+		private final long instrumentId;
+
+		public CancellablePriceEvent(long instrumentId) {
+			this.instrumentId = instrumentId;
+		}
+
+		public long getInstrumentId() {
+			return instrumentId;
+		}
+
+	}
+
+}
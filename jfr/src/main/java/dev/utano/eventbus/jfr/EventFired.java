@@ -0,0 +1,35 @@
+package dev.utano.eventbus.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Records the dispatch of an event to its synchronous handlers.
+ * Only dispatches lasting longer than the threshold, 1 ms by default, are recorded.
+ */
+@Name(EventFired.NAME)
+@Label("Event Fired")
+@Category("EventBus")
+@Description("The dispatch of an event to its synchronous handlers")
+@StackTrace(false)
+@Threshold("1 ms")
+public class EventFired extends jdk.jfr.Event {
+
+	public static final String NAME = "dev.utano.eventbus.EventFired";
+
+	@Label("Event Class")
+	Class<?> eventClass;
+
+	@Label("Handler Count")
+	@Description("The number of handlers of the event class, both synchronous and asynchronous")
+	int handlerCount;
+
+	@Label("Cancelled")
+	@Description("Whether the event was cancelled once dispatched")
+	boolean cancelled;
+
+}
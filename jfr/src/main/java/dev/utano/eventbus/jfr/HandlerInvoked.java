@@ -0,0 +1,45 @@
+package dev.utano.eventbus.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Records the invocation of a handler.
+ * Only invocations lasting longer than the threshold, 1 ms by default, are recorded.
+ */
+@Name(HandlerInvoked.NAME)
+@Label("Handler Invoked")
+@Category("EventBus")
+@Description("The invocation of an event handler")
+@StackTrace(false)
+@Threshold("1 ms")
+public class HandlerInvoked extends jdk.jfr.Event {
+
+	public static final String NAME = "dev.utano.eventbus.HandlerInvoked";
+
+	@Label("Event Class")
+	Class<?> eventClass;
+
+	@Label("Listener Class")
+	@Description("The class declaring the handler, the class of the consumer for subscriptions")
+	Class<?> listenerClass;
+
+	@Label("Handler Method")
+	String handlerMethod;
+
+	@Label("Parameter Class")
+	@Description("The event class the handler has been declared for, telling overloaded handlers apart")
+	Class<?> parameterClass;
+
+	@Label("Priority")
+	String priority;
+
+	@Label("Cancelled")
+	@Description("Whether the event was cancelled once the handler returned")
+	boolean cancelled;
+
+}
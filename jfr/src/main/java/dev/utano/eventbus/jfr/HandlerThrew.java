@@ -0,0 +1,44 @@
+package dev.utano.eventbus.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Records a handler throwing an exception, regardless of the duration of its invocation.
+ */
+@Name(HandlerThrew.NAME)
+@Label("Handler Threw")
+@Category("EventBus")
+@Description("An event handler throwing an exception")
+@StackTrace(false)
+public class HandlerThrew extends jdk.jfr.Event {
+
+	public static final String NAME = "dev.utano.eventbus.HandlerThrew";
+
+	@Label("Event Class")
+	Class<?> eventClass;
+
+	@Label("Listener Class")
+	@Description("The class declaring the handler, the class of the consumer for subscriptions")
+	Class<?> listenerClass;
+
+	@Label("Handler Method")
+	String handlerMethod;
+
+	@Label("Parameter Class")
+	@Description("The event class the handler has been declared for, telling overloaded handlers apart")
+	Class<?> parameterClass;
+
+	@Label("Priority")
+	String priority;
+
+	@Label("Exception Class")
+	Class<?> exceptionClass;
+
+	@Label("Message")
+	String message;
+
+}
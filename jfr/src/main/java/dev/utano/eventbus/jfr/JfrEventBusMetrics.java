@@ -0,0 +1,81 @@
+package dev.utano.eventbus.jfr;
+
+import dev.utano.eventbus.HandlerMethod;
+import dev.utano.eventbus.event.Cancellable;
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.invoker.HandlerInvoker;
+import dev.utano.eventbus.metrics.EventBusMetrics;
+import dev.utano.eventbus.metrics.HandlerMetrics;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Reports the dispatch of events to Java Flight Recorder, enabled through {@link dev.utano.eventbus.EventBus#setMetrics(EventBusMetrics)}.
+ * <p>
+ * Dispatches and handler invocations are recorded as {@link EventFired} and {@link HandlerInvoked} events, failures as
+ * {@link HandlerThrew} events. They are enabled and given thresholds through the JFR settings like any other event,
+ * for instance {@code -XX:StartFlightRecording:dev.utano.eventbus.HandlerInvoked#threshold=5ms}, so only slow dispatches are recorded.
+ * While no recording enables them, the only overhead left is a check of whether they are enabled.
+ * The events of a batch are recorded with the duration of their whole run, events without handlers are not recorded.
+ */
+public class JfrEventBusMetrics implements EventBusMetrics {
+
+	private static final EventType EVENT_FIRED_TYPE;
+	private static final HandlerMetrics NO_HANDLER_METRICS = new HandlerMetrics() {
+		@Override
+		public void handlerInvoked(Event event, long durationNanos) {
+		}
+
+		@Override
+		public void handlerFailed(Event event, Throwable cause, long durationNanos) {
+		}
+	};
+
+	static {
+		// Registering the events up front, so that they are listed by the recordings before any of them is committed
+		FlightRecorder.register(EventFired.class);
+		FlightRecorder.register(HandlerInvoked.class);
+		FlightRecorder.register(HandlerThrew.class);
+		EVENT_FIRED_TYPE = EventType.getEventType(EventFired.class);
+	}
+
+	@Override
+	public HandlerInvoker wrap(HandlerInvoker invoker, HandlerMethod handlerMethod, Class<? extends Event> eventClass) {
+		return new JfrHandlerInvoker(invoker, handlerMethod, eventClass);
+	}
+
+	@Override
+	public HandlerMetrics forHandler(HandlerMethod handlerMethod, Class<? extends Event> eventClass) {
+		return NO_HANDLER_METRICS;
+	}
+
+	@Override
+	public Object dispatchStarted(Event event) {
+		if (!EVENT_FIRED_TYPE.isEnabled())
+			return null;
+
+		EventFired fired = new EventFired();
+		fired.begin();
+		return fired;
+	}
+
+	@Override
+	public void eventDispatched(Event event, int handlerCount, long durationNanos, Object probe) {
+		if (probe == null)
+			return;
+
+		EventFired fired = (EventFired) probe;
+		fired.end();
+		if (fired.shouldCommit()) {
+			fired.eventClass = event.getClass();
+			fired.handlerCount = handlerCount;
+			fired.cancelled = event instanceof Cancellable && ((Cancellable) event).isCancelled();
+			fired.commit();
+		}
+	}
+
+	@Override
+	public void eventDispatched(Event event, int handlerCount, long durationNanos) {
+	}
+
+}
@@ -0,0 +1,66 @@
+package dev.utano.eventbus.jfr;
+
+import dev.utano.eventbus.HandlerMethod;
+import dev.utano.eventbus.event.Cancellable;
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.invoker.HandlerInvoker;
+import dev.utano.eventbus.listener.EventListener;
+
+/**
+ * Wraps the invoker of a handler, bracketing every invocation with a {@link HandlerInvoked} event
+ * and recording a {@link HandlerThrew} event whenever the handler fails.
+ * <p>
+ * While no recording enables the events, beginning and committing them does nothing and the JIT removes their allocation.
+ */
+final class JfrHandlerInvoker implements HandlerInvoker {
+
+	private final HandlerInvoker delegate;
+	private final Class<?> eventClass;
+	private final Class<?> listenerClass;
+	private final String handlerMethod;
+	private final Class<?> parameterClass;
+	private final String priority;
+
+	JfrHandlerInvoker(HandlerInvoker delegate, HandlerMethod handlerMethod, Class<? extends Event> eventClass) {
+		this.delegate = delegate;
+		this.eventClass = eventClass;
+		this.listenerClass = handlerMethod.getHandlerClass();
+		this.handlerMethod = handlerMethod.getMethod().getName();
+		this.parameterClass = handlerMethod.getEventClass().getClasz();
+		this.priority = handlerMethod.getPriority().name();
+	}
+
+	@Override
+	public void invoke(EventListener listener, Event event) throws Exception {
+		HandlerInvoked invoked = new HandlerInvoked();
+		invoked.begin();
+		try {
+			delegate.invoke(listener, event);
+		} catch (Exception | Error e) {
+			HandlerThrew threw = new HandlerThrew();
+			if (threw.isEnabled()) {
+				threw.eventClass = eventClass;
+				threw.listenerClass = listenerClass;
+				threw.handlerMethod = handlerMethod;
+				threw.parameterClass = parameterClass;
+				threw.priority = priority;
+				threw.exceptionClass = e.getClass();
+				threw.message = e.getMessage();
+				threw.commit();
+			}
+			throw e;
+		} finally {
+			invoked.end();
+			if (invoked.shouldCommit()) {
+				invoked.eventClass = eventClass;
+				invoked.listenerClass = listenerClass;
+				invoked.handlerMethod = handlerMethod;
+				invoked.parameterClass = parameterClass;
+				invoked.priority = priority;
+				invoked.cancelled = event instanceof Cancellable && ((Cancellable) event).isCancelled();
+				invoked.commit();
+			}
+		}
+	}
+
+}
@@ -0,0 +1,91 @@
+package dev.utano.eventbus.jfr;
+
+import dev.utano.eventbus.EventBus;
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.exception.SubscriberExceptionHandlers;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JfrEventBusMetricsTest {
+
+	@Test
+	public void recordingTest() throws Exception {
+		EventBus eventBus = new EventBus().setMetrics(new JfrEventBusMetrics()).setExceptionHandler(SubscriberExceptionHandlers.collect());
+		eventBus.subscribe(SampleEvent.class, event -> {
+		});
+		eventBus.subscribe(FailingEvent.class, event -> {
+			throw new IllegalStateException("failure");
+		});
+
+		Path file = Files.createTempFile("eventbus", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(EventFired.NAME).withThreshold(Duration.ZERO);
+			recording.enable(HandlerInvoked.NAME).withThreshold(Duration.ZERO);
+			recording.enable(HandlerThrew.NAME);
+			recording.start();
+
+			eventBus.fireEvent(new SampleEvent());
+			eventBus.fireEvent(new FailingEvent());
+
+			recording.stop();
+			recording.dump(file);
+		}
+
+		List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+		Files.delete(file);
+		assertEquals(2, count(events, EventFired.NAME), "Every dispatch should be recorded without a threshold.");
+		assertEquals(2, count(events, HandlerInvoked.NAME), "Every invocation should be recorded without a threshold.");
+		assertEquals(1, count(events, HandlerThrew.NAME), "The failing handler should be recorded.");
+
+		RecordedEvent threw = events.stream().filter(event -> event.getEventType().getName().equals(HandlerThrew.NAME)).findFirst().orElseThrow(AssertionError::new);
+		assertEquals(FailingEvent.class.getName(), threw.getClass("eventClass").getName(), "The class of the event should be recorded.");
+		assertEquals(IllegalStateException.class.getName(), threw.getClass("exceptionClass").getName(), "The class of the exception should be recorded.");
+		assertEquals("NORMAL", threw.getString("priority"), "The priority of the handler should be recorded.");
+		// Hidden classes are named differently by JFR, only the class defining the lambda can be compared
+		assertTrue(threw.getClass("listenerClass").getName().startsWith(JfrEventBusMetricsTest.class.getName()), "Subscriptions should be attributed to their consumer.");
+		assertEquals(FailingEvent.class.getName(), threw.getClass("parameterClass").getName(), "The event class of the handler should be recorded.");
+	}
+
+	@Test
+	public void batchRecordingTest() throws Exception {
+		EventBus eventBus = new EventBus().setMetrics(new JfrEventBusMetrics());
+		eventBus.subscribe(SampleEvent.class, event -> {
+		});
+
+		Path file = Files.createTempFile("eventbus", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(EventFired.NAME).withThreshold(Duration.ZERO);
+			recording.start();
+
+			eventBus.fireEvents(Arrays.asList(new SampleEvent(), new SampleEvent(), new SampleEvent()));
+
+			recording.stop();
+			recording.dump(file);
+		}
+
+		List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+		Files.delete(file);
+		assertEquals(3, count(events, EventFired.NAME), "Every event of a batch should be recorded.");
+	}
+
+	private static long count(List<RecordedEvent> events, String name) {
+		return events.stream().filter(event -> event.getEventType().getName().equals(name)).count();
+	}
+
+	public static class SampleEvent extends Event {
+	}
+
+	public static class FailingEvent extends Event {
+	}
+
+}
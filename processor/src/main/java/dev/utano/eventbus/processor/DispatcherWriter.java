@@ -0,0 +1,111 @@
+package dev.utano.eventbus.processor;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import java.util.List;
+
+/**
+ * Writes the source of the {@code ListenerDispatcher} of a listener class.
+ * <p>
+ * The generated dispatcher builds the {@code HandlerMethod}s of the listener through {@code HandlerMethod.builder()},
+ * each bound to an invoker calling the handler method directly from a switch on its index.
+ */
+public class DispatcherWriter {
+
+	/**
+	 * The suffix of the simple name of the generated dispatchers, resolved by name by {@code ListenerDispatchers}.
+	 */
+	public static final String SUFFIX = "_EventDispatcher";
+
+	private final TypeElement listenerType;
+	private final List<HandlerModel> handlers;
+	private final String packageName;
+	private final String simpleName;
+
+	public DispatcherWriter(Elements elements, TypeElement listenerType, List<HandlerModel> handlers) {
+		this.listenerType = listenerType;
+		this.handlers = handlers;
+		this.packageName = elements.getPackageOf(listenerType).getQualifiedName().toString();
+
+		// Flattening nested classes, Outer$Inner becomes Outer_Inner_EventDispatcher
+		String binaryName = elements.getBinaryName(listenerType).toString();
+		String localName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+		this.simpleName = localName.replace('$', '_') + SUFFIX;
+	}
+
+	/**
+	 * @return the fully qualified name of the generated dispatcher.
+	 */
+	public String getQualifiedName() {
+		return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+	}
+
+	/**
+	 * @return the source of the generated dispatcher.
+	 */
+	public String write() {
+		String listener = listenerType.getQualifiedName().toString();
+		StringBuilder source = new StringBuilder();
+
+		if (!packageName.isEmpty())
+			source.append("package ").append(packageName).append(";\n\n");
+
+		source.append("/**\n")
+				.append(" * Dispatcher of {@link ").append(listener).append("}, generated by the EventBus annotation processor.\n")
+				.append(" */\n")
+				.append("public final class ").append(simpleName).append(" implements dev.utano.eventbus.dispatcher.ListenerDispatcher {\n\n");
+
+		// getListenerClass
+		source.append("\t@Override\n")
+				.append("\tpublic Class<? extends dev.utano.eventbus.listener.EventListener> getListenerClass() {\n")
+				.append("\t\treturn ").append(listener).append(".class;\n")
+				.append("\t}\n\n");
+
+		// createHandlerMethods
+		source.append("\t@Override\n")
+				.append("\tpublic dev.utano.eventbus.HandlerMethod[] createHandlerMethods(dev.utano.eventbus.listener.ListenerClass<?> listenerClass) throws ReflectiveOperationException {\n")
+				.append("\t\treturn new dev.utano.eventbus.HandlerMethod[]{\n");
+		for (HandlerModel handler : handlers) {
+			source.append("\t\t\t\tdev.utano.eventbus.HandlerMethod.builder()\n")
+					.append("\t\t\t\t\t\t.listenerClass(listenerClass)\n")
+					.append("\t\t\t\t\t\t.method(").append(listener).append(".class.getMethod(\"").append(handler.getMethodName()).append("\", ").append(handler.getEventType()).append(".class))\n")
+					.append("\t\t\t\t\t\t.eventClass(new top.wavelength.betterreflection.BetterReflectionClass<>(").append(handler.getEventType()).append(".class))\n")
+					.append("\t\t\t\t\t\t.invoker(new Invoker(").append(handler.getIndex()).append("))\n")
+					.append("\t\t\t\t\t\t.priority(dev.utano.eventbus.event.priority.EventPriority.").append(handler.getPriority()).append(")\n")
+					.append("\t\t\t\t\t\t.order(").append(handler.getOrder()).append(")\n")
+					.append("\t\t\t\t\t\t.handleDerivatives(").append(handler.isHandleDerivatives()).append(")\n")
+					.append("\t\t\t\t\t\t.ignoreCancelled(").append(handler.isIgnoreCancelled()).append(")\n")
+					.append("\t\t\t\t\t\t.async(").append(handler.isAsync()).append(")\n")
+					.append("\t\t\t\t\t\t.sticky(").append(handler.isSticky()).append(")\n");
+			if (handler.getFilter() != null)
+				source.append("\t\t\t\t\t\t.filter(new ").append(handler.getFilter()).append("())\n");
+			source.append("\t\t\t\t\t\t.build(),\n");
+		}
+		source.append("\t\t};\n")
+				.append("\t}\n\n");
+
+		// Invoker
+		source.append("\tprivate static final class Invoker implements dev.utano.eventbus.invoker.HandlerInvoker {\n\n")
+				.append("\t\tprivate final int index;\n\n")
+				.append("\t\tprivate Invoker(int index) {\n")
+				.append("\t\t\tthis.index = index;\n")
+				.append("\t\t}\n\n")
+				.append("\t\t@Override\n")
+				.append("\t\tpublic void invoke(dev.utano.eventbus.listener.EventListener listener, dev.utano.eventbus.event.Event event) throws Exception {\n")
+				.append("\t\t\tswitch (index) {\n");
+		for (HandlerModel handler : handlers) {
+			source.append("\t\t\t\tcase ").append(handler.getIndex()).append(":\n")
+					.append("\t\t\t\t\t").append(handler.isStaticMethod() ? listener : "((" + listener + ") listener)")
+					.append(".").append(handler.getMethodName()).append("((").append(handler.getEventType()).append(") event);\n")
+					.append("\t\t\t\t\treturn;\n");
+		}
+		source.append("\t\t\t\tdefault:\n")
+				.append("\t\t\t\t\tthrow new IllegalStateException(\"Unknown handler index \" + index);\n")
+				.append("\t\t\t}\n")
+				.append("\t\t}\n\n")
+				.append("\t}\n\n")
+				.append("}\n");
+		return source.toString();
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,267 @@
+package dev.utano.eventbus.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Generates a {@code ListenerDispatcher} for every listener class declaring {@code @EventHandler} methods.
+ * <p>
+ * The generated dispatcher describes the handler methods of the listener, sorted by priority, and invokes them
+ * through a hard-coded switch instead of reflection. Dispatchers are named after their listener class, so the EventBus
+ * resolves them by name and skips scanning the listener class. They are also listed as services.
+ * <p>
+ * Listener classes which cannot be accessed from generated code (private or local classes, handlers
+ * throwing arbitrary {@link Throwable}s, filters without an accessible no-arg constructor...) are skipped,
+ * and keep being scanned reflectively at runtime.
+ *
+ * @see DispatcherWriter
+ */
+public class EventHandlerProcessor extends AbstractProcessor {
+
+	public static final String EVENT_HANDLER = "dev.utano.eventbus.annotation.EventHandler";
+	public static final String EVENT = "dev.utano.eventbus.event.Event";
+	public static final String EVENT_LISTENER = "dev.utano.eventbus.listener.EventListener";
+	public static final String EVENT_PRIORITY = "dev.utano.eventbus.event.priority.EventPriority";
+	public static final String SERVICE_FILE = "META-INF/services/dev.utano.eventbus.dispatcher.ListenerDispatcher";
+
+	private final Set<String> dispatchers = new TreeSet<>();
+
+	private Elements elements;
+	private Types types;
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return Collections.singleton(EVENT_HANDLER);
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		elements = processingEnv.getElementUtils();
+		types = processingEnv.getTypeUtils();
+
+		if (roundEnv.processingOver()) {
+			writeServiceFile();
+			return false;
+		}
+
+		TypeElement eventHandler = elements.getTypeElement(EVENT_HANDLER);
+		if (eventHandler == null || !annotations.contains(eventHandler))
+			return false;
+
+		Set<TypeElement> listenerTypes = new LinkedHashSet<>();
+		for (Element element : roundEnv.getElementsAnnotatedWith(eventHandler)) {
+			if (element.getKind() == ElementKind.METHOD)
+				listenerTypes.add((TypeElement) element.getEnclosingElement());
+		}
+
+		for (TypeElement listenerType : listenerTypes)
+			generateDispatcher(listenerType);
+		return false;
+	}
+
+	private void generateDispatcher(TypeElement listenerType) {
+		if (!isGeneratable(listenerType))
+			return;
+
+		List<HandlerModel> handlers = new ArrayList<>();
+		for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(listenerType))) {
+			AnnotationMirror annotation = getEventHandlerAnnotation(method);
+			if (annotation == null || !isHandler(method))
+				continue;
+
+			Map<String, Object> values = getValues(annotation);
+			HandlerModel handler = new HandlerModel(handlers.size(), method, erasedName(method.getParameters().get(0).asType()), values, getPriorityOrdinal((String) values.get("priority")));
+			if (!isGeneratable(method, listenerType)) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+						"The handler cannot be invoked from generated code, " + listenerType.getQualifiedName() + " will be scanned at runtime.", method);
+				return;
+			}
+			if (handler.getFilter() != null && !isInstantiable(elements.getTypeElement(handler.getFilter()), elements.getPackageOf(listenerType))) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+						"The filter cannot be instantiated from generated code, " + listenerType.getQualifiedName() + " will be scanned at runtime.", method);
+				return;
+			}
+			handlers.add(handler);
+		}
+		if (handlers.isEmpty())
+			return;
+
+		// Stable, declaration order is kept within the same priority and order
+		handlers.sort(Comparator.comparingInt(HandlerModel::getPriorityOrdinal).thenComparingInt(HandlerModel::getOrder));
+
+		DispatcherWriter writer = new DispatcherWriter(elements, listenerType, handlers);
+		try {
+			JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(writer.getQualifiedName(), listenerType);
+			try (Writer out = sourceFile.openWriter()) {
+				out.write(writer.write());
+			}
+			dispatchers.add(writer.getQualifiedName());
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not generate the dispatcher: " + e.getMessage(), listenerType);
+		}
+	}
+
+	/**
+	 * Checks whether a dispatcher can be generated for the listener type:
+	 * it must be a concrete class implementing EventListener, accessible from its own package.
+	 */
+	private boolean isGeneratable(TypeElement listenerType) {
+		if (listenerType.getKind() != ElementKind.CLASS || listenerType.getModifiers().contains(Modifier.ABSTRACT))
+			return false;
+		if (!types.isAssignable(types.erasure(listenerType.asType()), types.erasure(elements.getTypeElement(EVENT_LISTENER).asType())))
+			return false;
+		if (!isAccessible(listenerType, elements.getPackageOf(listenerType))) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+					"The listener is not accessible from generated code, it will be scanned at runtime.", listenerType);
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Mirrors the checks performed by the EventBus when scanning a listener reflectively.
+	 */
+	private boolean isHandler(ExecutableElement method) {
+		if (!method.getModifiers().contains(Modifier.PUBLIC) || method.getParameters().size() != 1)
+			return false;
+		TypeMirror parameterType = types.erasure(method.getParameters().get(0).asType());
+		return types.isAssignable(parameterType, types.erasure(elements.getTypeElement(EVENT).asType()));
+	}
+
+	private boolean isGeneratable(ExecutableElement method, TypeElement listenerType) {
+		TypeMirror parameterType = types.erasure(method.getParameters().get(0).asType());
+		if (parameterType.getKind() != TypeKind.DECLARED)
+			return false;
+		if (!isAccessible((TypeElement) ((DeclaredType) parameterType).asElement(), elements.getPackageOf(listenerType)))
+			return false;
+
+		TypeMirror exception = elements.getTypeElement(Exception.class.getName()).asType();
+		TypeMirror error = elements.getTypeElement(Error.class.getName()).asType();
+		for (TypeMirror thrownType : method.getThrownTypes()) {
+			if (!types.isAssignable(thrownType, exception) && !types.isAssignable(thrownType, error))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Checks whether the type can be instantiated through its no-arg constructor from a class of the specified package,
+	 * as the generated dispatcher does with filters.
+	 */
+	private boolean isInstantiable(TypeElement type, PackageElement fromPackage) {
+		if (type == null || type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT))
+			return false;
+		if (type.getNestingKind() != NestingKind.TOP_LEVEL && !type.getModifiers().contains(Modifier.STATIC))
+			return false; // Inner classes need an enclosing instance
+		if (!isAccessible(type, fromPackage))
+			return false;
+
+		for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+			if (!constructor.getParameters().isEmpty())
+				continue;
+			Set<Modifier> modifiers = constructor.getModifiers();
+			return modifiers.contains(Modifier.PUBLIC) || !modifiers.contains(Modifier.PRIVATE) && elements.getPackageOf(type).equals(fromPackage);
+		}
+		return false;
+	}
+
+	/**
+	 * Checks whether the type can be referenced from a class of the specified package.
+	 */
+	private boolean isAccessible(TypeElement type, PackageElement fromPackage) {
+		for (Element current = type; current.getKind() != ElementKind.PACKAGE; current = current.getEnclosingElement()) {
+			if (!current.getKind().isClass() && !current.getKind().isInterface())
+				return false; // Local or anonymous class
+			Set<Modifier> modifiers = current.getModifiers();
+			if (modifiers.contains(Modifier.PRIVATE))
+				return false;
+			if (!modifiers.contains(Modifier.PUBLIC) && !elements.getPackageOf(current).equals(fromPackage))
+				return false;
+		}
+		return true;
+	}
+
+	private AnnotationMirror getEventHandlerAnnotation(ExecutableElement method) {
+		for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+			if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(EVENT_HANDLER))
+				return annotation;
+		}
+		return null;
+	}
+
+	private Map<String, Object> getValues(AnnotationMirror annotation) {
+		Map<String, Object> values = new HashMap<>();
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : elements.getElementValuesWithDefaults(annotation).entrySet()) {
+			Object value = entry.getValue().getValue();
+			values.put(entry.getKey().getSimpleName().toString(), value instanceof VariableElement ? ((VariableElement) value).getSimpleName().toString() : value);
+		}
+		return values;
+	}
+
+	private int getPriorityOrdinal(String priority) {
+		int ordinal = 0;
+		for (Element constant : elements.getTypeElement(EVENT_PRIORITY).getEnclosedElements()) {
+			if (constant.getKind() != ElementKind.ENUM_CONSTANT)
+				continue;
+			if (constant.getSimpleName().contentEquals(priority))
+				return ordinal;
+			ordinal++;
+		}
+		return ordinal;
+	}
+
+	private String erasedName(TypeMirror type) {
+		return types.erasure(type).toString();
+	}
+
+	private void writeServiceFile() {
+		if (dispatchers.isEmpty())
+			return;
+
+		// Keeping the dispatchers generated by previous incremental compilations
+		Set<String> services = new TreeSet<>(dispatchers);
+		try {
+			FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					if (!line.trim().isEmpty())
+						services.add(line.trim());
+				}
+			}
+		} catch (IOException | IllegalArgumentException ignored) {
+			// No previous service file
+		}
+
+		try {
+			FileObject serviceFile = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+			try (Writer out = new OutputStreamWriter(serviceFile.openOutputStream(), StandardCharsets.UTF_8)) {
+				for (String service : services)
+					out.write(service + "\n");
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not write " + SERVICE_FILE + ": " + e.getMessage());
+		}
+	}
+
+}
\ No newline at end of file
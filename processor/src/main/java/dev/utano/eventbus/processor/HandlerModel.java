@@ -0,0 +1,104 @@
+package dev.utano.eventbus.processor;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import java.util.Map;
+
+/**
+ * An {@code @EventHandler} method found by the {@link EventHandlerProcessor}, along with its annotation values.
+ */
+public class HandlerModel {
+
+	/**
+	 * The default filter class of {@code @EventHandler}, meaning no filter.
+	 */
+	private static final String NO_FILTER = "dev.utano.eventbus.filter.EventFilter";
+
+	private final int index;
+	private final String methodName;
+	private final boolean staticMethod;
+	private final String eventType;
+	private final Map<String, Object> values;
+	private final int priorityOrdinal;
+
+	/**
+	 * @param index           The index of the handler within its dispatcher, used by the generated invoker.
+	 * @param method          The handler method.
+	 * @param eventType       The erased, canonical name of the handled event type.
+	 * @param values          The values of the {@code @EventHandler} annotation, defaults included.
+	 *                        Enum constants are stored as their names.
+	 * @param priorityOrdinal The ordinal of the priority of the handler.
+	 */
+	public HandlerModel(int index, ExecutableElement method, String eventType, Map<String, Object> values, int priorityOrdinal) {
+		this.index = index;
+		this.methodName = method.getSimpleName().toString();
+		this.staticMethod = method.getModifiers().contains(Modifier.STATIC);
+		this.eventType = eventType;
+		this.values = values;
+		this.priorityOrdinal = priorityOrdinal;
+	}
+
+	public int getIndex() {
+		return index;
+	}
+
+	public String getMethodName() {
+		return methodName;
+	}
+
+	public boolean isStaticMethod() {
+		return staticMethod;
+	}
+
+	public String getEventType() {
+		return eventType;
+	}
+
+	public int getPriorityOrdinal() {
+		return priorityOrdinal;
+	}
+
+	public String getPriority() {
+		return (String) values.get("priority");
+	}
+
+	public int getOrder() {
+		Object order = values.get("order");
+		return order instanceof Integer ? (Integer) order : 0;
+	}
+
+	public boolean isHandleDerivatives() {
+		return getBoolean("handleDerivatives");
+	}
+
+	public boolean isIgnoreCancelled() {
+		return getBoolean("ignoreCancelled");
+	}
+
+	public boolean isAsync() {
+		return getBoolean("async");
+	}
+
+	public boolean isSticky() {
+		return getBoolean("sticky");
+	}
+
+	/**
+	 * @return the canonical name of the filter class of the handler, null if it has no filter.
+	 */
+	public String getFilter() {
+		Object filter = values.get("filter");
+		if (!(filter instanceof DeclaredType))
+			return null;
+
+		String name = ((TypeElement) ((DeclaredType) filter).asElement()).getQualifiedName().toString();
+		return NO_FILTER.equals(name) ? null : name;
+	}
+
+	private boolean getBoolean(String name) {
+		return Boolean.TRUE.equals(values.get(name));
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,136 @@
+package dev.utano.eventbus.processor;
+
+import dev.utano.eventbus.EventBus;
+import dev.utano.eventbus.dispatcher.ListenerDispatcher;
+import dev.utano.eventbus.dispatcher.ListenerDispatchers;
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.listener.EventListener;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventHandlerProcessorTest {
+
+	private static final String EVENT_SOURCE = String.join("\n",
+			"package sample;",
+			"public class SampleEvent extends dev.utano.eventbus.event.Event {",
+			"	public final java.util.List<String> calls = new java.util.ArrayList<>();",
+			"}");
+
+	private static final String LISTENER_SOURCE = String.join("\n",
+			"package sample;",
+			"import dev.utano.eventbus.annotation.EventHandler;",
+			"import dev.utano.eventbus.event.priority.EventPriority;",
+			"public class SampleListener implements dev.utano.eventbus.listener.EventListener {",
+			"	@EventHandler(priority = EventPriority.HIGH)",
+			"	public void high(SampleEvent event) { event.calls.add(\"high\"); }",
+			"	@EventHandler(priority = EventPriority.LOW)",
+			"	public void low(SampleEvent event) { event.calls.add(\"low\"); }",
+			"	@EventHandler",
+			"	public static void normal(SampleEvent event) { event.calls.add(\"normal\"); }",
+			"	public void notAHandler(SampleEvent event) { event.calls.add(\"not-a-handler\"); }",
+			"}");
+
+	private static final String FILTERED_LISTENER_SOURCE = String.join("\n",
+			"package sample;",
+			"import dev.utano.eventbus.annotation.EventHandler;",
+			"import dev.utano.eventbus.filter.EventFilter;",
+			"public class FilteredListener implements dev.utano.eventbus.listener.EventListener {",
+			"	@EventHandler(filter = AcceptFilter.class)",
+			"	public void filtered(SampleEvent event) { event.calls.add(\"filtered\"); }",
+			"	public static class AcceptFilter implements EventFilter<SampleEvent> {",
+			"		public boolean test(SampleEvent event) { return true; }",
+			"	}",
+			"}");
+
+	private static final String PRIVATE_FILTER_LISTENER_SOURCE = String.join("\n",
+			"package sample;",
+			"import dev.utano.eventbus.annotation.EventHandler;",
+			"import dev.utano.eventbus.filter.EventFilter;",
+			"public class PrivateFilterListener implements dev.utano.eventbus.listener.EventListener {",
+			"	@EventHandler(filter = PrivateFilter.class)",
+			"	public void filtered(SampleEvent event) { event.calls.add(\"filtered\"); }",
+			"}",
+			"class PrivateFilter implements EventFilter<SampleEvent> {",
+			"	private PrivateFilter() {}",
+			"	public boolean test(SampleEvent event) { return true; }",
+			"}");
+
+	@Test
+	public void generatedDispatcherTest() throws Exception {
+		Path directory = Files.createTempDirectory("eventbus-processor");
+		Path sourceDirectory = Files.createDirectories(directory.resolve("src/sample"));
+		Path outputDirectory = Files.createDirectories(directory.resolve("classes"));
+		Files.write(sourceDirectory.resolve("SampleEvent.java"), EVENT_SOURCE.getBytes(StandardCharsets.UTF_8));
+		Files.write(sourceDirectory.resolve("SampleListener.java"), LISTENER_SOURCE.getBytes(StandardCharsets.UTF_8));
+
+		compile(outputDirectory, sourceDirectory.resolve("SampleEvent.java").toFile(), sourceDirectory.resolve("SampleListener.java").toFile());
+		assertTrue(Files.exists(outputDirectory.resolve(EventHandlerProcessor.SERVICE_FILE)), "The service file should be generated.");
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[]{outputDirectory.toUri().toURL()}, getClass().getClassLoader())) {
+			Class<?> listenerClass = classLoader.loadClass("sample.SampleListener");
+			ListenerDispatcher dispatcher = ListenerDispatchers.find(listenerClass);
+			assertNotNull(dispatcher, "The generated dispatcher should be found by name.");
+			assertEquals(ListenerDispatchers.getDispatcherName(listenerClass), dispatcher.getClass().getName(), "The dispatcher should be named after the listener.");
+
+			Event event = (Event) classLoader.loadClass("sample.SampleEvent").getConstructor().newInstance();
+			new EventBus().register((EventListener) listenerClass.getConstructor().newInstance()).fireEvent(event);
+
+			Object calls = event.getClass().getField("calls").get(event);
+			assertEquals(Arrays.asList("low", "normal", "high"), calls, "The generated handlers should be invoked by priority.");
+		}
+	}
+
+	@Test
+	public void inaccessibleFilterTest() throws Exception {
+		Path directory = Files.createTempDirectory("eventbus-processor");
+		Path sourceDirectory = Files.createDirectories(directory.resolve("src/sample"));
+		Path outputDirectory = Files.createDirectories(directory.resolve("classes"));
+		Files.write(sourceDirectory.resolve("SampleEvent.java"), EVENT_SOURCE.getBytes(StandardCharsets.UTF_8));
+		Files.write(sourceDirectory.resolve("FilteredListener.java"), FILTERED_LISTENER_SOURCE.getBytes(StandardCharsets.UTF_8));
+		Files.write(sourceDirectory.resolve("PrivateFilterListener.java"), PRIVATE_FILTER_LISTENER_SOURCE.getBytes(StandardCharsets.UTF_8));
+
+		compile(outputDirectory, sourceDirectory.resolve("SampleEvent.java").toFile(), sourceDirectory.resolve("FilteredListener.java").toFile(),
+				sourceDirectory.resolve("PrivateFilterListener.java").toFile());
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[]{outputDirectory.toUri().toURL()}, getClass().getClassLoader())) {
+			assertNotNull(ListenerDispatchers.find(classLoader.loadClass("sample.FilteredListener")), "A dispatcher should be generated for an accessible filter.");
+			Class<?> listenerClass = classLoader.loadClass("sample.PrivateFilterListener");
+			assertNull(ListenerDispatchers.find(listenerClass), "No dispatcher should be generated for a filter with a private constructor.");
+
+			Event event = (Event) classLoader.loadClass("sample.SampleEvent").getConstructor().newInstance();
+			new EventBus().register((EventListener) listenerClass.getConstructor().newInstance()).fireEvent(event);
+
+			Object calls = event.getClass().getField("calls").get(event);
+			assertEquals(Collections.singletonList("filtered"), calls, "The skipped listener should still be scanned at runtime.");
+		}
+	}
+
+	private void compile(Path outputDirectory, File... sources) throws IOException {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+			Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjects(sources);
+			List<String> options = Arrays.asList("-classpath", System.getProperty("java.class.path"), "-d", outputDirectory.toString());
+
+			JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, compilationUnits);
+			task.setProcessors(Collections.singletonList(new EventHandlerProcessor()));
+			assertTrue(task.call(), "The sample sources should compile.");
+		}
+	}
+
+}
\ No newline at end of file
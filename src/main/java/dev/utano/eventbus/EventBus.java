@@ -1,18 +1,36 @@
 package dev.utano.eventbus;
 
 import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.async.AsyncExecutors;
 import dev.utano.eventbus.event.Cancellable;
+import dev.utano.eventbus.event.DeadEventHandler;
 import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.event.EventType;
 import dev.utano.eventbus.event.priority.EventPriority;
+import dev.utano.eventbus.exception.SubscriberExceptionContext;
+import dev.utano.eventbus.exception.SubscriberExceptionHandler;
+import dev.utano.eventbus.exception.SubscriberExceptionHandlers;
+import dev.utano.eventbus.filter.EventFilter;
+import dev.utano.eventbus.filter.KeyedEvent;
 import dev.utano.eventbus.listener.EventListener;
 import dev.utano.eventbus.listener.ListenerClass;
 import dev.utano.eventbus.listener.ListenerInstance;
+import dev.utano.eventbus.metrics.EventBusMetrics;
+import dev.utano.eventbus.sticky.StickyEventCache;
 import top.wavelength.betterreflection.BetterReflectionClass;
-import top.wavelength.betterreflection.dumper.implementation.MethodDumper;
 
-import java.lang.reflect.Method;
+import java.lang.ref.ReferenceQueue;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * The {@code EventBus} class is responsible for registering event listeners,
@@ -32,28 +50,153 @@ import java.util.List;
  * </p>
  *
  * <p>
+ * The {@code EventBus} is thread-safe: the registered listeners are published as an immutable
+ * {@link ListenerSnapshot}, so events can be fired without locking while other threads
+ * register or unregister listeners. {@link #registerAll(Collection)} and {@link #unregisterAll(Collection)}
+ * apply several changes at once.
+ * </p>
+ *
+ * <p>
+ * Listeners registered through {@link #registerWeak(EventListener)} do not prevent their garbage collection.
+ * Collected listeners are skipped and purged in bulk whenever a new snapshot is published, or on {@link #purgeCollected()}.
+ * </p>
+ *
+ * <p>
  * Events can be fired using the {@link #fireEvent(Event)} method.
  * This method takes an event as a parameter and dispatches it to all registered listeners.
  * The event is dispatched to the listeners in the order of their specified {@link EventPriority}.
+ * The handlers matching each event class are resolved once and cached in a {@link HandlerChain}.
  * If the event is cancellable, the method also checks if the event is cancelled and
  * if the handler method should be invoked based on the event's priority.
  * </p>
  *
+ * <p>
+ * Handlers marked as {@link EventHandler#async() asynchronous} are invoked on an {@link Executor} once all the
+ * synchronous handlers have been invoked. {@link #fireEventAsync(Event)} returns a future tracking their completion.
+ * </p>
+ *
+ * <p>
+ * Dispatch metrics can be enabled through {@link #setMetrics(EventBusMetrics)}, they are disabled by default.
+ * </p>
+ *
+ * <p>
+ * Listeners registered through {@link #registerFiltered(EventListener, EventFilter)} or {@link #registerKeyed(EventListener, Object)}
+ * only receive the events passing their filter, or the {@link KeyedEvent}s of their key. Keyed listeners are indexed by key,
+ * so they do not cost anything to the events of other keys.
+ * </p>
+ *
+ * <p>
+ * Events posted through {@link #postSticky(Event)} are cached, and delivered to the {@link EventHandler#sticky() sticky}
+ * handlers of the listeners registered afterwards.
+ * </p>
+ *
+ * <p>
+ * Child buses created through {@link #createChild()} have their own listeners, so events scoped to a world or an arena
+ * are only matched against the listeners of their scope, then bubble up to the parent. Closing a bus drops all its
+ * listeners at once.
+ * </p>
+ *
+ * <p>
+ * Exceptions thrown by handlers are passed to the {@link SubscriberExceptionHandler} set through
+ * {@link #setExceptionHandler(SubscriberExceptionHandler)}, by default they abort the dispatch and are rethrown.
+ * </p>
+ *
  * @see ListenerInstance
  * @see EventListener
  * @see BetterReflectionClass
  */
-public class EventBus {
+public class EventBus implements AutoCloseable {
 
-	private final List<ListenerInstance> listenerInstanceList = new ArrayList<>();
+	/**
+	 * The minimum number of listeners unregistered through their {@link Registration} before they are purged.
+	 */
+	private static final int MIN_REMOVED_TO_PURGE = 16;
 
-	protected final MethodDumper methodDumper = new MethodDumper();
+	/**
+	 * The listeners currently registered, replaced as a whole on every registration or unregistration.
+	 */
+	private volatile ListenerSnapshot snapshot = ListenerSnapshot.EMPTY;
+	private final Object registrationLock = new Object();
+	/**
+	 * The queue of the weakly registered listeners which have been garbage collected since the last purge.
+	 */
+	private final ReferenceQueue<EventListener> collectedListeners = new ReferenceQueue<>();
+	/**
+	 * The number of listeners unregistered through their {@link Registration} since the last purge, guarded by the registration lock.
+	 */
+	private int removedCount;
+
+	/**
+	 * The executor of asynchronous handlers, null to use {@link AsyncExecutors#getDefault()}.
+	 */
+	private final Executor asyncExecutor;
+
+	/**
+	 * The policy applied to the exceptions thrown by handlers, only read once a handler has failed.
+	 */
+	private volatile SubscriberExceptionHandler exceptionHandler = SubscriberExceptionHandlers.rethrow();
+
+	/**
+	 * The latest event of each class posted through {@link #postSticky(Event)}.
+	 */
+	private final StickyEventCache stickyEvents = new StickyEventCache();
+
+	/**
+	 * The callback receiving the events without handlers, null if disabled.
+	 */
+	private volatile DeadEventHandler deadEventHandler;
+
+	/**
+	 * The bus this bus was created from, null for a root bus.
+	 */
+	private final EventBus parent;
+	/**
+	 * Whether the events fired on this bus are also dispatched to the handlers of its parent.
+	 */
+	private final boolean bubbling;
+	/**
+	 * Whether this bus has been closed, after which it rejects registrations.
+	 */
+	private volatile boolean closed;
 
 	/**
 	 * Represents the default instance of EventBus
 	 */
 	private static final EventBus DEFAULT_INSTANCE = new EventBus();
 
+	/**
+	 * Creates an EventBus invoking asynchronous handlers on the shared {@link AsyncExecutors#getDefault() default executor}.
+	 */
+	public EventBus() {
+		this(null);
+	}
+
+	/**
+	 * Creates an EventBus invoking asynchronous handlers on the specified executor.
+	 *
+	 * @param asyncExecutor The executor of asynchronous handlers, null to use the default one.
+	 */
+	public EventBus(Executor asyncExecutor) {
+		this.asyncExecutor = asyncExecutor;
+		this.parent = null;
+		this.bubbling = false;
+	}
+
+	/**
+	 * Creates a child of the specified bus, sharing its executor, exception handler and metrics.
+	 *
+	 * @param parent   The parent bus.
+	 * @param bubbling Whether the events fired on the child are also dispatched to the handlers of the parent.
+	 */
+	private EventBus(EventBus parent, boolean bubbling) {
+		this.asyncExecutor = parent.asyncExecutor;
+		this.parent = parent;
+		this.bubbling = bubbling;
+		this.exceptionHandler = parent.exceptionHandler;
+		if (parent.getMetrics() != null)
+			this.snapshot = new ListenerSnapshot(new ListenerInstance[0], parent.getMetrics());
+	}
+
 	/**
 	 * @return the default instance of the EventBus class
 	 */
@@ -61,6 +204,69 @@ public class EventBus {
 		return DEFAULT_INSTANCE;
 	}
 
+	/**
+	 * Creates a child bus whose events bubble up to this bus.
+	 *
+	 * @return The child bus.
+	 * @see #createChild(boolean)
+	 */
+	public EventBus createChild() {
+		return createChild(true);
+	}
+
+	/**
+	 * Creates a child bus, scoped to a world or an arena for instance, with its own listeners and handler chains.
+	 * <p>
+	 * Events fired on the child are dispatched to its handlers and, if bubbling, then to the handlers of this bus and of its
+	 * own ancestors, before any asynchronous handler is invoked. The cost of firing an event on the child therefore grows with
+	 * the listeners of its scope rather than with all the listeners of the server.
+	 * The child starts with the executor, exception handler and metrics of this bus, this bus does not reference it,
+	 * so a child is torn down by {@link #close() closing} it or simply dropping it.
+	 *
+	 * @param bubbling Whether the events fired on the child are also dispatched to the handlers of this bus.
+	 * @return The child bus.
+	 */
+	public EventBus createChild(boolean bubbling) {
+		return new EventBus(this, bubbling);
+	}
+
+	/**
+	 * @return the bus this bus was created from, null for a root bus.
+	 */
+	public EventBus getParent() {
+		return parent;
+	}
+
+	/**
+	 * @return whether the events fired on this bus are also dispatched to the handlers of its parent.
+	 */
+	public boolean isBubbling() {
+		return bubbling;
+	}
+
+	/**
+	 * Unregisters all the listeners and clears the sticky events in constant time, publishing an empty snapshot.
+	 * <p>
+	 * The listeners are not marked as removed one by one, their {@link Registration}s report them as inactive since the bus is closed.
+	 * Once closed, the bus rejects registrations, events fired on it are still dispatched to its ancestors.
+	 */
+	@Override
+	public void close() {
+		synchronized (registrationLock) {
+			closed = true;
+			removedCount = 0;
+			snapshot = new ListenerSnapshot(new ListenerInstance[0], snapshot.getMetrics());
+		}
+		stickyEvents.clear();
+	}
+
+	/**
+	 * @return whether this bus has been closed.
+	 */
+	public boolean isClosed() {
+		return closed;
+	}
+
 	/**
 	 * Registers the specified event listener.
 	 *
@@ -68,17 +274,295 @@ public class EventBus {
 	 * @return The EventBus.
 	 */
 	public EventBus register(EventListener eventListener) {
-		listenerInstanceList.add(new ListenerInstance(eventListener, new ListenerClass<>(eventListener)));
+		return registerAll(Collections.singletonList(eventListener));
+	}
+
+	/**
+	 * Registers all the specified event listeners at once, publishing a single new snapshot.
+	 *
+	 * @param eventListeners The event listeners to register, in order.
+	 * @return The EventBus.
+	 */
+	public EventBus registerAll(Collection<? extends EventListener> eventListeners) {
+		return addListenerInstances(eventListeners, false);
+	}
+
+	/**
+	 * Registers the specified event listener through a weak reference, the EventBus does not prevent it from being garbage collected.
+	 * Once collected, the listener is no longer invoked, as if it had been unregistered.
+	 *
+	 * @param eventListener The event listener to register.
+	 * @return The EventBus.
+	 */
+	public EventBus registerWeak(EventListener eventListener) {
+		return registerAllWeak(Collections.singletonList(eventListener));
+	}
+
+	/**
+	 * Registers all the specified event listeners through weak references at once, publishing a single new snapshot.
+	 *
+	 * @param eventListeners The event listeners to register, in order.
+	 * @return The EventBus.
+	 * @see #registerWeak(EventListener)
+	 */
+	public EventBus registerAllWeak(Collection<? extends EventListener> eventListeners) {
+		return addListenerInstances(eventListeners, true);
+	}
+
+	/**
+	 * Registers the specified event listener, returning the handle which unregisters it.
+	 * Closing the handle is cheaper than {@link #unregister(EventListener)}, as it does not publish a new snapshot.
+	 *
+	 * @param eventListener The event listener to register.
+	 * @return The handle of the registration.
+	 */
+	public Registration registerHandle(EventListener eventListener) {
+		return registerHandle(new ListenerInstance(eventListener, ListenerClass.of(eventListener.getClass())));
+	}
+
+	/**
+	 * Registers the specified event listener through a weak reference, returning the handle which unregisters it.
+	 *
+	 * @param eventListener The event listener to register.
+	 * @return The handle of the registration.
+	 * @see #registerWeak(EventListener)
+	 * @see #registerHandle(EventListener)
+	 */
+	public Registration registerWeakHandle(EventListener eventListener) {
+		return registerHandle(new ListenerInstance(eventListener, ListenerClass.of(eventListener.getClass()), collectedListeners));
+	}
+
+	/**
+	 * Registers the specified event listener, invoking its handlers only for the events passing the filter.
+	 * The filter is evaluated before each invocation, after the handler's own {@link EventHandler#filter() filter}.
+	 *
+	 * @param eventListener The event listener to register.
+	 * @param filter        The filter of the events passed to the handlers of the listener.
+	 * @return The handle of the registration.
+	 */
+	public Registration registerFiltered(EventListener eventListener, EventFilter<Event> filter) {
+		return registerHandle(new ListenerInstance(eventListener, ListenerClass.of(eventListener.getClass()), null, Objects.requireNonNull(filter, "filter"), null));
+	}
+
+	/**
+	 * Registers the specified event listener, which only receives the {@link KeyedEvent}s with the specified key.
+	 * Events which are not keyed are delivered to the listener as usual.
+	 * <p>
+	 * Keyed handlers are indexed by key, firing a keyed event does not walk the handlers registered with other keys.
+	 *
+	 * @param eventListener The event listener to register.
+	 * @param key           The key of the events, such as a world or an entity id, compared through {@link Object#equals(Object)}.
+	 * @return The handle of the registration.
+	 */
+	public Registration registerKeyed(EventListener eventListener, Object key) {
+		return registerHandle(new ListenerInstance(eventListener, ListenerClass.of(eventListener.getClass()), null, null, Objects.requireNonNull(key, "key")));
+	}
+
+	/**
+	 * Subscribes the consumer to the events of the specified class and its subclasses, with the {@link EventPriority#NORMAL normal} priority.
+	 *
+	 * @param eventClass The class of the events.
+	 * @param consumer   The consumer of the events.
+	 * @param <T>        The type of the events.
+	 * @return The handle of the subscription.
+	 * @see #subscribe(Class, Consumer, EventPriority, boolean)
+	 */
+	public <T extends Event> Registration subscribe(Class<T> eventClass, Consumer<? super T> consumer) {
+		return subscribe(eventClass, consumer, EventPriority.NORMAL, false);
+	}
+
+	/**
+	 * Subscribes the consumer to the events of the specified class and its subclasses, without declaring a listener class.
+	 * <p>
+	 * The subscription is ordered by priority along with the annotated handlers, and no class is scanned nor any method
+	 * invoked reflectively, which makes it the cheapest way to register and invoke a single handler.
+	 *
+	 * @param eventClass      The class of the events.
+	 * @param consumer        The consumer of the events.
+	 * @param priority        The priority of the consumer.
+	 * @param ignoreCancelled Whether the consumer should ignore cancelled events.
+	 * @param <T>             The type of the events.
+	 * @return The handle of the subscription.
+	 */
+	public <T extends Event> Registration subscribe(Class<T> eventClass, Consumer<? super T> consumer, EventPriority priority, boolean ignoreCancelled) {
+		Objects.requireNonNull(consumer, "consumer");
+		return registerHandle(new Subscription(eventClass, consumer, Objects.requireNonNull(priority, "priority"), ignoreCancelled));
+	}
+
+	/**
+	 * Adds the specified listener instance, returning the handle which unregisters it.
+	 *
+	 * @param listenerInstance The listener instance to add.
+	 * @return The handle of the registration.
+	 */
+	private Registration registerHandle(ListenerInstance listenerInstance) {
+		addListenerInstances(Collections.singletonList(listenerInstance));
+		return new Registration(this, listenerInstance);
+	}
+
+	/**
+	 * Creates the instances of the specified listeners and adds them, publishing a new snapshot.
+	 *
+	 * @param eventListeners The event listeners to register, in order.
+	 * @param weak           Whether the listeners have to be referenced weakly.
+	 * @return The EventBus.
+	 */
+	private EventBus addListenerInstances(Collection<? extends EventListener> eventListeners, boolean weak) {
+		// Scanning the listener classes outside the lock, each class is only scanned once
+		List<ListenerInstance> listenerInstances = new ArrayList<>(eventListeners.size());
+		for (EventListener eventListener : eventListeners) {
+			ListenerClass<?> listenerClass = ListenerClass.of(eventListener.getClass());
+			listenerInstances.add(weak ? new ListenerInstance(eventListener, listenerClass, collectedListeners) : new ListenerInstance(eventListener, listenerClass));
+		}
+		addListenerInstances(listenerInstances);
 		return this;
 	}
 
+	/**
+	 * Adds the specified listener instances, publishing a new snapshot.
+	 *
+	 * @param listenerInstances The listener instances to add, in order.
+	 */
+	private void addListenerInstances(List<ListenerInstance> listenerInstances) {
+		synchronized (registrationLock) {
+			if (closed)
+				throw new IllegalStateException("The EventBus has been closed.");
+
+			ListenerInstance[] current = purge(snapshot.listenerInstances);
+			ListenerInstance[] updated = Arrays.copyOf(current, current.length + listenerInstances.size());
+			for (int i = 0; i < listenerInstances.size(); i++)
+				updated[current.length + i] = listenerInstances.get(i);
+			snapshot = new ListenerSnapshot(updated, snapshot, snapshot.getMetrics());
+		}
+
+		if (!stickyEvents.isEmpty())
+			deliverStickyEvents(listenerInstances);
+	}
+
+	/**
+	 * Delivers the cached sticky events to the sticky handlers of the specified listeners: synchronous handlers on the
+	 * registering thread, then asynchronous ones on the executor, with the event sealed.
+	 * Listener classes without sticky handlers are skipped without looking at the cache.
+	 * <p>
+	 * The cached event is shared by all the late listeners, so they are delivered one at a time, and the cancellation
+	 * state the event was cached with is restored after each delivery: a late listener cancelling the event does not
+	 * hide it from the next ones. Asynchronous handlers observe that restored state.
+	 *
+	 * @param listenerInstances The newly registered listener instances.
+	 */
+	private void deliverStickyEvents(List<ListenerInstance> listenerInstances) {
+		List<Event> events = null;
+		for (ListenerInstance listenerInstance : listenerInstances) {
+			if (!listenerInstance.getListenerClass().hasStickyHandlers()) continue;
+			if (events == null)
+				events = stickyEvents.getEvents();
+
+			for (Event event : events) {
+				EventType eventType = EventType.of(event.getClass());
+				Cancellable cancellable = eventType.isCancellable() ? (Cancellable) event : null;
+				synchronized (event) {
+					deliverStickyEvent(listenerInstance, event, eventType, cancellable);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Delivers a cached sticky event to the sticky handlers of a listener, restoring its cancellation state afterwards.
+	 *
+	 * @param listenerInstance The newly registered listener instance.
+	 * @param event            The cached event.
+	 * @param eventType        The type of the event.
+	 * @param cancellable      If the event is {@link Cancellable}, the {@link Cancellable} instance of the event, null otherwise.
+	 */
+	private void deliverStickyEvent(ListenerInstance listenerInstance, Event event, EventType eventType, Cancellable cancellable) {
+		boolean sealed = event.isSealed();
+		boolean cancelled = cancellable != null && cancellable.isCancelled();
+		boolean stopped = cancellable != null && cancellable.isStopImmediatePropagation();
+		unseal(event);
+
+		List<ListenerHandler> asyncHandlers = null;
+		for (HandlerMethod handlerMethod : listenerInstance.getHandlerMethods(cancellable != null)) {
+			if (!handlerMethod.isSticky() || !handlerMethod.handles(eventType) || skipHandlerInvocation(handlerMethod, cancellable)) continue;
+
+			ListenerHandler listenerHandler = new ListenerHandler(listenerInstance, handlerMethod);
+			if (handlerMethod.isAsync()) {
+				// Whether to skip them is decided now, on the state left by the synchronous handlers of the listener
+				if (asyncHandlers == null)
+					asyncHandlers = new ArrayList<>();
+				asyncHandlers.add(listenerHandler);
+				continue;
+			}
+			try {
+				listenerHandler.invoke(event);
+			} catch (Exception | Error e) {
+				handleException(listenerHandler, event, e);
+			}
+		}
+
+		if (cancellable != null && !event.isSealed()) {
+			cancellable.setCancelled(cancelled);
+			cancellable.setStopImmediatePropagation(stopped);
+		}
+		if (sealed || asyncHandlers != null)
+			event.seal();
+		if (asyncHandlers == null)
+			return;
+
+		Executor executor = getAsyncExecutor();
+		for (ListenerHandler listenerHandler : asyncHandlers) {
+			executor.execute(() -> {
+				try {
+					listenerHandler.invoke(event);
+				} catch (Exception | Error e) {
+					handleException(listenerHandler, event, e);
+				}
+			});
+		}
+	}
+
 	/**
 	 * Unregisters the specified listener.
 	 *
 	 * @param eventListener The listener to unregister.
 	 */
 	public void unregister(EventListener eventListener) {
-		listenerInstanceList.removeIf(listenerInstance -> listenerInstance.getEventListener().equals(eventListener));
+		removeListenerInstances(listenerInstance -> eventListener.equals(listenerInstance.getEventListener()));
+	}
+
+	/**
+	 * Unregisters all the specified listeners at once, publishing a single new snapshot.
+	 *
+	 * @param eventListeners The listeners to unregister.
+	 */
+	public void unregisterAll(Collection<? extends EventListener> eventListeners) {
+		removeListenerInstances(listenerInstance -> {
+			EventListener eventListener = listenerInstance.getEventListener();
+			return eventListener != null && eventListeners.contains(eventListener);
+		});
+	}
+
+	/**
+	 * Unregisters the listener of the specified registration without publishing a new snapshot.
+	 * <p>
+	 * The listener is marked as removed, so it is no longer invoked, and removed listeners are purged once they
+	 * amount to a quarter of the registered ones, or when the next snapshot is published.
+	 * Unregistering is therefore constant time, amortized over the purges.
+	 *
+	 * @param registration The registration to close.
+	 */
+	public void unregister(Registration registration) {
+		synchronized (registrationLock) {
+			if (!registration.getListenerInstance().markRemoved())
+				return;
+
+			if (++removedCount > Math.max(MIN_REMOVED_TO_PURGE, snapshot.listenerInstances.length / 4)) {
+				ListenerInstance[] current = snapshot.listenerInstances;
+				ListenerInstance[] updated = purge(current);
+				if (updated != current)
+					snapshot = new ListenerSnapshot(updated, snapshot, snapshot.getMetrics());
+			}
+		}
 	}
 
 	/**
@@ -87,88 +571,591 @@ public class EventBus {
 	 * @param listenerClass The class of the listener to unregister.
 	 */
 	public void unregister(BetterReflectionClass<? extends EventListener> listenerClass) {
-		listenerInstanceList.removeIf(listenerInstance -> listenerInstance.getListenerClass().equals(listenerClass));
+		unregister(listenerClass.getClasz());
 	}
 
 	/**
-	 * Unregisters the specified listener class from the listener list.
+	 * Unregisters all the listeners of the specified class at once, publishing a single new snapshot.
 	 *
 	 * @param listenerClass The class of the listener to unregister.
 	 */
 	public void unregister(Class<? extends EventListener> listenerClass) {
-		unregister(new BetterReflectionClass<>(listenerClass));
+		removeListenerInstances(listenerInstance -> listenerInstance.getListenerClass().getClasz() == listenerClass);
+	}
+
+	/**
+	 * Unregisters all the listeners whose class has been loaded by the specified class loader at once, publishing a single new snapshot.
+	 * Subscriptions are matched on the class loader of their consumer.
+	 * Useful to unregister all the listeners of a plugin as it is unloaded.
+	 *
+	 * @param classLoader The class loader of the listener classes to unregister.
+	 * @see ListenerInstance#getClassLoader()
+	 */
+	public void unregisterAll(ClassLoader classLoader) {
+		removeListenerInstances(listenerInstance -> listenerInstance.getClassLoader() == classLoader);
+	}
+
+	/**
+	 * Removes the listener instances matching the filter, publishing a new snapshot if any was removed.
+	 * The removed instances are marked as such, so that closing their {@link Registration} does nothing.
+	 *
+	 * @param filter The filter of the listener instances to remove.
+	 */
+	private void removeListenerInstances(Predicate<ListenerInstance> filter) {
+		synchronized (registrationLock) {
+			ListenerInstance[] current = snapshot.listenerInstances;
+			ListenerInstance[] updated = filter(purge(current), listenerInstance -> filter.test(listenerInstance) && listenerInstance.markRemoved());
+			if (updated != current)
+				snapshot = new ListenerSnapshot(updated, snapshot, snapshot.getMetrics());
+		}
+	}
+
+	/**
+	 * Purges the weakly registered listeners which have been garbage collected and the listeners unregistered through
+	 * their {@link Registration}, publishing a new snapshot if any was purged.
+	 * Such listeners are already skipped by the dispatch and purged on every registration or unregistration,
+	 * this method only has to be called to release their entries when the listeners are not otherwise modified.
+	 */
+	public void purgeCollected() {
+		synchronized (registrationLock) {
+			ListenerInstance[] current = snapshot.listenerInstances;
+			ListenerInstance[] updated = purge(current);
+			if (updated != current)
+				snapshot = new ListenerSnapshot(updated, snapshot, snapshot.getMetrics());
+		}
+	}
+
+	/**
+	 * Removes the collected and the removed listener instances, if the reference queue reports any collection
+	 * or any instance has been removed since the last purge.
+	 * Must be called while holding the registration lock.
+	 *
+	 * @param listenerInstances The current listener instances.
+	 * @return The listener instances without the collected and removed ones, the same array if there was none.
+	 */
+	private ListenerInstance[] purge(ListenerInstance[] listenerInstances) {
+		boolean collected = false;
+		while (collectedListeners.poll() != null)
+			collected = true;
+		if (!collected && removedCount == 0)
+			return listenerInstances;
+
+		removedCount = 0;
+		return filter(listenerInstances, listenerInstance -> listenerInstance.isRemoved() || listenerInstance.isCollected());
+	}
+
+	/**
+	 * Removes the listener instances matching the filter.
+	 *
+	 * @param listenerInstances The listener instances.
+	 * @param filter            The filter of the listener instances to remove.
+	 * @return The remaining listener instances, the same array if none was removed.
+	 */
+	private static ListenerInstance[] filter(ListenerInstance[] listenerInstances, Predicate<ListenerInstance> filter) {
+		ListenerInstance[] remaining = new ListenerInstance[listenerInstances.length];
+		int size = 0;
+		for (ListenerInstance listenerInstance : listenerInstances) {
+			if (!filter.test(listenerInstance))
+				remaining[size++] = listenerInstance;
+		}
+		return size != listenerInstances.length ? Arrays.copyOf(remaining, size) : listenerInstances;
+	}
+
+	/**
+	 * Enables or disables the dispatch metrics, publishing a new snapshot.
+	 * <p>
+	 * The handler chains are rebuilt, so that every handler invoker reports to the new metrics.
+	 * When disabled, handlers are invoked through their plain invokers and dispatching has no additional cost.
+	 *
+	 * @param metrics The metrics to report to, null to disable them.
+	 * @return The EventBus.
+	 */
+	public EventBus setMetrics(EventBusMetrics metrics) {
+		synchronized (registrationLock) {
+			snapshot = new ListenerSnapshot(snapshot.listenerInstances, snapshot, metrics);
+		}
+		return this;
+	}
+
+	/**
+	 * @return the metrics the EventBus reports to, null if metrics are disabled.
+	 */
+	public EventBusMetrics getMetrics() {
+		return snapshot.getMetrics();
+	}
+
+	/**
+	 * Sets the policy applied to the exceptions thrown by handlers.
+	 *
+	 * @param exceptionHandler The policy, see {@link SubscriberExceptionHandlers} for the built-in ones.
+	 * @return The EventBus.
+	 */
+	public EventBus setExceptionHandler(SubscriberExceptionHandler exceptionHandler) {
+		this.exceptionHandler = Objects.requireNonNull(exceptionHandler, "exceptionHandler");
+		return this;
+	}
+
+	/**
+	 * @return the policy applied to the exceptions thrown by handlers.
+	 */
+	public SubscriberExceptionHandler getExceptionHandler() {
+		return exceptionHandler;
+	}
+
+	/**
+	 * Sets the callback receiving the events fired while no handler was listening to them.
+	 * When no callback is set, unhandled events are simply dropped.
+	 *
+	 * @param deadEventHandler The callback, null to disable it.
+	 * @return The EventBus.
+	 */
+	public EventBus setDeadEventHandler(DeadEventHandler deadEventHandler) {
+		this.deadEventHandler = deadEventHandler;
+		return this;
+	}
+
+	/**
+	 * @return the callback receiving the unhandled events, null if disabled.
+	 */
+	public DeadEventHandler getDeadEventHandler() {
+		return deadEventHandler;
+	}
+
+	/**
+	 * Checks whether firing an event of the specified class would invoke any handler, so that callers can skip
+	 * building events nobody listens to.
+	 * <p>
+	 * The answer comes from the handler counts of the snapshot, kept up to date by every registration and unregistration,
+	 * so it takes constant time regardless of the number of listeners and never builds a chain of handlers.
+	 * Listeners whose {@link Registration} has been closed, or which have been garbage collected, may be counted
+	 * until they are purged. The handlers of the ancestors a bubbling bus fires its events to are counted as well.
+	 *
+	 * @param eventClass The concrete class of the event.
+	 * @return {@code true} if any handler would be invoked, {@code false} otherwise.
+	 */
+	public boolean hasListeners(Class<? extends Event> eventClass) {
+		for (EventBus eventBus = this; ; eventBus = eventBus.parent) {
+			if (eventBus.snapshot.hasHandlers(eventClass))
+				return true;
+			if (!eventBus.bubbling)
+				return false;
+		}
+	}
+
+	/**
+	 * @return the snapshot of the currently registered listeners.
+	 */
+	public ListenerSnapshot getSnapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * Caches the given event as the sticky event of its class, then fires it.
+	 * Listeners registered afterwards receive the cached event through their {@link EventHandler#sticky() sticky} handlers.
+	 *
+	 * @param event The event to be fired
+	 * @param <T>   The type of the event
+	 * @return The fired event
+	 * @see #getStickyEvents()
+	 */
+	public <T extends Event> T postSticky(T event) {
+		stickyEvents.put(event);
+		return fireEvent(event);
+	}
+
+	/**
+	 * @return the cache of the sticky events, through which they can be looked up or evicted and the cache bounded.
+	 */
+	public StickyEventCache getStickyEvents() {
+		return stickyEvents;
 	}
 
 	/**
 	 * Fires the given event and processes it with the specified priority.
+	 * Asynchronous handlers are submitted to the executor without waiting for their completion.
 	 *
 	 * @param event The event to be fired
 	 * @param <T>   The type of the event
 	 * @return The fired event
 	 */
 	public <T extends Event> T fireEvent(T event) {
+		unseal(event);
 		boolean isCancellable = event instanceof Cancellable;
 		Cancellable cancellable = isCancellable ? (Cancellable) event : null;
-		for (EventPriority priority : EventPriority.values())
-			dispatchEvent(event, cancellable, priority);
+		if (bubbling) {
+			fireBubbling(event, cancellable, null);
+			return event;
+		}
+
+		HandlerChain handlerChain = getHandlerChain(event.getClass());
+		dispatchEvent(event, cancellable, handlerChain);
+		if (handlerChain.hasAsyncHandlers())
+			dispatchAsync(event, cancellable, handlerChain, false);
 		return event;
 	}
 
 	/**
-	 * Dispatches the given event to all registered event listeners with the specified priority.
+	 * Fires the given event, invoking the synchronous handlers on the calling thread and
+	 * the asynchronous ones on the executor.
+	 * <p>
+	 * Once the synchronous handlers have been invoked the event is {@link Event#seal() sealed},
+	 * so asynchronous handlers cannot modify its cancellation state.
+	 *
+	 * @param event The event to be fired
+	 * @param <T>   The type of the event
+	 * @return A future completed with the event once all asynchronous handlers have been invoked,
+	 * or completed exceptionally if any of them failed.
+	 */
+	public <T extends Event> CompletableFuture<T> fireEventAsync(T event) {
+		unseal(event);
+		boolean isCancellable = event instanceof Cancellable;
+		Cancellable cancellable = isCancellable ? (Cancellable) event : null;
+		if (bubbling) {
+			List<CompletableFuture<?>> futures = new ArrayList<>();
+			fireBubbling(event, cancellable, futures);
+			if (futures.isEmpty())
+				return CompletableFuture.completedFuture(event);
+			return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> event);
+		}
+
+		HandlerChain handlerChain = getHandlerChain(event.getClass());
+		dispatchEvent(event, cancellable, handlerChain);
+		if (!handlerChain.hasAsyncHandlers())
+			return CompletableFuture.completedFuture(event);
+
+		return CompletableFuture.allOf(dispatchAsync(event, cancellable, handlerChain, true)).thenApply(ignored -> event);
+	}
+
+	/**
+	 * Fires all the given events, resolving the chain of handlers once per run of events of the same class.
+	 * <p>
+	 * Each run of consecutive events of the same class is streamed through every handler in order of priority,
+	 * so a handler receives all the events of the run before the next handler is invoked.
+	 * The cancellation state is still tracked per event: cancelling or stopping the propagation of an event
+	 * does not affect the other events of the batch.
+	 *
+	 * @param events The events to be fired, ideally a {@link RandomAccess} list.
+	 * @param <T>    The type of the events
+	 * @return The fired events
+	 */
+	public <T extends Event> List<T> fireEvents(List<T> events) {
+		if (bubbling) {
+			// The handlers of the ancestors have to run before the asynchronous ones seal the events, so each event is fired on its own
+			for (T event : events)
+				fireEvent(event);
+			return events;
+		}
+
+		List<T> batch = events instanceof RandomAccess ? events : new ArrayList<>(events);
+		int size = batch.size();
+		int start = 0;
+		while (start < size) {
+			Class<? extends Event> eventClass = batch.get(start).getClass();
+			int end = start + 1;
+			while (end < size && batch.get(end).getClass() == eventClass)
+				end++;
+
+			dispatchBatch(batch, start, end, getHandlerChain(eventClass));
+			start = end;
+		}
+		return events;
+	}
+
+	/**
+	 * Fires all the given events, resolving the chain of handlers once per run of events of the same class.
+	 *
+	 * @param events The events to be fired
+	 * @param <T>    The type of the events
+	 * @return The fired events
+	 * @see #fireEvents(List)
+	 */
+	public <T extends Event> T[] fireEvents(T[] events) {
+		fireEvents(Arrays.asList(events));
+		return events;
+	}
+
+	/**
+	 * @return the executor of asynchronous handlers.
+	 */
+	public Executor getAsyncExecutor() {
+		return asyncExecutor != null ? asyncExecutor : AsyncExecutors.getDefault();
+	}
+
+	/**
+	 * Retrieves the chain of handlers for the specified event class from the current snapshot.
+	 * The cached chains are discarded whenever a listener is registered or unregistered.
+	 *
+	 * @param eventClass The concrete class of the event.
+	 * @return The priority-ordered chain of handlers for the event class.
+	 */
+	protected HandlerChain getHandlerChain(Class<? extends Event> eventClass) {
+		return snapshot.getHandlerChain(eventClass);
+	}
+
+	/**
+	 * Dispatches the given event to all the synchronous handlers of the chain, in order of priority.
+	 * If the chain is metered, the dispatch is reported to its metrics.
+	 *
+	 * @param event        The event to dispatch.
+	 * @param cancellable  If the event is {@link Cancellable}, the {@link Cancellable} instance of the method, null otherwise.
+	 * @param handlerChain The chain of handlers for the event's class.
+	 */
+	private void dispatchEvent(Event event, Cancellable cancellable, HandlerChain handlerChain) {
+		if (handlerChain.isEmpty()) {
+			dispatchDeadEvent(event, handlerChain);
+			return;
+		}
+
+		dispatchHandlers(event, cancellable, handlerChain);
+	}
+
+	/**
+	 * Fires an event on this bus and the ancestors it bubbles up to.
+	 * The event is only reported as dead if none of the buses has any handler for it.
 	 *
 	 * @param event       The event to dispatch.
 	 * @param cancellable If the event is {@link Cancellable}, the {@link Cancellable} instance of the method, null otherwise.
-	 * @param priority    The priority of the event.
-	 */
-	private void dispatchEvent(Event event, Cancellable cancellable, EventPriority priority) {
-		Method currentMethod = null;
-		boolean isCancellable = cancellable != null;
-		try {
-			for (ListenerInstance listenerInstance : listenerInstanceList) {
-				ListenerClass<?> listenerClass = listenerInstance.getListenerClass();
-				for (HandlerMethod handlerMethod : listenerClass.getHandlers(isCancellable).handlerMethods) {
-					currentMethod = handlerMethod.getMethod();
-					if (skipHandlerInvocation(handlerMethod, event, cancellable, priority)) continue;
-					currentMethod.invoke(listenerInstance.getEventListener(), event);
+	 * @param futures     The list collecting the futures of the asynchronous handlers, null if they are not tracked.
+	 */
+	private void fireBubbling(Event event, Cancellable cancellable, List<CompletableFuture<?>> futures) {
+		if (dispatchBubbling(event, cancellable, futures) == 0)
+			dispatchDeadEvent(event, getHandlerChain(event.getClass()));
+	}
+
+	/**
+	 * Dispatches an event to the synchronous handlers of this bus, then recursively to its ancestors,
+	 * and finally submits the asynchronous handlers, so that every synchronous handler runs before the event is sealed.
+	 *
+	 * @param event       The event to dispatch.
+	 * @param cancellable If the event is {@link Cancellable}, the {@link Cancellable} instance of the method, null otherwise.
+	 * @param futures     The list collecting the futures of the asynchronous handlers, null if they are not tracked.
+	 * @return The number of handlers of the event on this bus and its ancestors.
+	 */
+	private int dispatchBubbling(Event event, Cancellable cancellable, List<CompletableFuture<?>> futures) {
+		HandlerChain handlerChain = getHandlerChain(event.getClass());
+		if (!handlerChain.isEmpty())
+			dispatchHandlers(event, cancellable, handlerChain);
+
+		int handlerCount = handlerChain.size();
+		if (bubbling)
+			handlerCount += parent.dispatchBubbling(event, cancellable, futures);
+
+		if (handlerChain.hasAsyncHandlers()) {
+			CompletableFuture<?>[] submitted = dispatchAsync(event, cancellable, handlerChain, futures != null);
+			if (submitted != null)
+				Collections.addAll(futures, submitted);
+		}
+		return handlerCount;
+	}
+
+	/**
+	 * Dispatches the given event to the synchronous handlers of a non-empty chain, reporting the dispatch to its metrics if metered.
+	 *
+	 * @param event        The event to dispatch.
+	 * @param cancellable  If the event is {@link Cancellable}, the {@link Cancellable} instance of the method, null otherwise.
+	 * @param handlerChain The chain of handlers for the event's class.
+	 */
+	private void dispatchHandlers(Event event, Cancellable cancellable, HandlerChain handlerChain) {
+		EventBusMetrics metrics = handlerChain.getMetrics();
+		if (metrics == null) {
+			invokeHandlers(event, cancellable, handlerChain);
+			return;
+		}
+
+		Object probe = metrics.dispatchStarted(event);
+		long start = System.nanoTime();
+		invokeHandlers(event, cancellable, handlerChain);
+		metrics.eventDispatched(event, handlerChain.size(), System.nanoTime() - start, probe);
+	}
+
+	/**
+	 * Invokes the synchronous handlers of the chain on the given event, in order of priority, leaving out the handlers of other keys.
+	 * Every invocation is isolated, a failing handler only aborts the dispatch if the exception handler rethrows.
+	 *
+	 * @param event        The event to dispatch.
+	 * @param cancellable  If the event is {@link Cancellable}, the {@link Cancellable} instance of the method, null otherwise.
+	 * @param handlerChain The chain of handlers for the event's class.
+	 */
+	private void invokeHandlers(Event event, Cancellable cancellable, HandlerChain handlerChain) {
+		for (ListenerHandler listenerHandler : handlerChain.getHandlers(event)) {
+			if (skipHandlerInvocation(listenerHandler.getHandlerMethod(), cancellable)) continue;
+			try {
+				listenerHandler.invoke(event);
+			} catch (Exception | Error e) {
+				handleException(listenerHandler, event, e);
+			}
+		}
+	}
+
+	/**
+	 * Dispatches a run of events of the same class to the handlers of the chain, handler by handler.
+	 * Keyed events only reach the handlers of their key, so the run is split into the consecutive events selecting the same handlers.
+	 *
+	 * @param events       The batch of events.
+	 * @param start        The index of the first event of the run, inclusive.
+	 * @param end          The index of the last event of the run, exclusive.
+	 * @param handlerChain The chain of handlers for the events' class.
+	 */
+	private void dispatchBatch(List<? extends Event> events, int start, int end, HandlerChain handlerChain) {
+		if (handlerChain.isEmpty()) {
+			for (int i = start; i < end; i++)
+				dispatchDeadEvent(events.get(i), handlerChain);
+			return;
+		}
+
+		for (int i = start; i < end; i++)
+			unseal(events.get(i));
+
+		boolean isCancellable = handlerChain.isCancellable();
+		EventBusMetrics metrics = handlerChain.getMetrics();
+		Object[] probes = null;
+		long startNanos = 0;
+		if (metrics != null) {
+			probes = new Object[end - start];
+			for (int i = start; i < end; i++)
+				probes[i - start] = metrics.dispatchStarted(events.get(i));
+			startNanos = System.nanoTime();
+		}
+		int runStart = start;
+		ListenerHandler[] runHandlers = handlerChain.getHandlers(events.get(start));
+		for (int i = start + 1; i < end; i++) {
+			ListenerHandler[] handlers = handlerChain.getHandlers(events.get(i));
+			if (handlers == runHandlers) continue;
+			invokeBatch(events, runStart, i, runHandlers, isCancellable);
+			runStart = i;
+			runHandlers = handlers;
+		}
+		invokeBatch(events, runStart, end, runHandlers, isCancellable);
+
+		if (metrics != null) {
+			// The handlers are invoked handler by handler, so the duration of the run is split evenly between its events
+			long durationNanos = (System.nanoTime() - startNanos) / (end - start);
+			for (int i = start; i < end; i++)
+				metrics.eventDispatched(events.get(i), handlerChain.size(), durationNanos, probes[i - start]);
+		}
+
+		if (handlerChain.hasAsyncHandlers()) {
+			for (int i = start; i < end; i++) {
+				Event event = events.get(i);
+				dispatchAsync(event, isCancellable ? (Cancellable) event : null, handlerChain, false);
+			}
+		}
+	}
+
+	/**
+	 * Invokes the specified handlers on a run of events, handler by handler.
+	 *
+	 * @param events        The batch of events.
+	 * @param start         The index of the first event of the run, inclusive.
+	 * @param end           The index of the last event of the run, exclusive.
+	 * @param handlers      The synchronous handlers selected by every event of the run.
+	 * @param isCancellable Whether the events are {@link Cancellable}.
+	 */
+	private void invokeBatch(List<? extends Event> events, int start, int end, ListenerHandler[] handlers, boolean isCancellable) {
+		for (ListenerHandler listenerHandler : handlers) {
+			HandlerMethod handlerMethod = listenerHandler.getHandlerMethod();
+			for (int i = start; i < end; i++) {
+				Event event = events.get(i);
+				if (isCancellable && skipHandlerInvocation(handlerMethod, (Cancellable) event)) continue;
+				try {
+					listenerHandler.invoke(event);
+				} catch (Exception | Error e) {
+					handleException(listenerHandler, event, e);
 				}
 			}
-		} catch (Exception e) {
-			StringBuilder description = new StringBuilder("An exception has occurred executing the method ").append(methodDumper.dump(currentMethod));
-			description.append("\nEvent: ").append(event.getClass().getName());
-			throw new RuntimeException(description.toString(), e);
 		}
 	}
 
+	/**
+	 * Handles an event which has no handlers, reporting it to the metrics and the dead event handler, if any.
+	 *
+	 * @param event        The unhandled event.
+	 * @param handlerChain The empty chain of handlers for the event's class.
+	 */
+	private void dispatchDeadEvent(Event event, HandlerChain handlerChain) {
+		EventBusMetrics metrics = handlerChain.getMetrics();
+		if (metrics != null)
+			metrics.eventDispatched(event, 0, 0);
+
+		DeadEventHandler deadEventHandler = this.deadEventHandler;
+		if (deadEventHandler != null)
+			deadEventHandler.handleDeadEvent(event);
+	}
+
+	/**
+	 * Lifts the seal left by a previous asynchronous dispatch of the event, as its synchronous handlers are about to run again,
+	 * for instance when a sticky event is delivered or an event is fired twice.
+	 *
+	 * @param event The event to dispatch.
+	 */
+	private static void unseal(Event event) {
+		if (event.isSealed())
+			event.unseal();
+	}
+
+	/**
+	 * Seals the event and submits its asynchronous handlers to the executor, in order of priority.
+	 * Whether a handler has to be skipped is decided before submitting it, as the cancellation state can no longer change.
+	 *
+	 * @param event        The event to dispatch.
+	 * @param cancellable  If the event is {@link Cancellable}, the {@link Cancellable} instance of the method, null otherwise.
+	 * @param handlerChain The chain of handlers for the event's class.
+	 * @param track        Whether the completion of the handlers has to be tracked.
+	 * @return The futures of the submitted handlers if tracked, null otherwise.
+	 */
+	private CompletableFuture<?>[] dispatchAsync(Event event, Cancellable cancellable, HandlerChain handlerChain, boolean track) {
+		event.seal();
+		Executor executor = getAsyncExecutor();
+
+		List<CompletableFuture<Void>> futures = track ? new ArrayList<>(handlerChain.asyncHandlers.length) : null;
+		for (ListenerHandler listenerHandler : handlerChain.asyncHandlers) {
+			if (skipHandlerInvocation(listenerHandler.getHandlerMethod(), cancellable)) continue;
+
+			Runnable invocation = () -> {
+				try {
+					listenerHandler.invoke(event);
+				} catch (Exception | Error e) {
+					handleException(listenerHandler, event, e);
+				}
+			};
+			if (track)
+				futures.add(CompletableFuture.runAsync(invocation, executor));
+			else
+				executor.execute(invocation);
+		}
+		return track ? futures.toArray(new CompletableFuture<?>[0]) : null;
+	}
+
+	/**
+	 * Passes an exception or an error thrown by a handler to the exception handler.
+	 * Kept out of the dispatch loops, so that the context of the failure is only built once a handler has failed.
+	 *
+	 * @param listenerHandler The handler which threw the exception.
+	 * @param event           The event being dispatched.
+	 * @param e               The exception or the error thrown by the handler.
+	 */
+	private void handleException(ListenerHandler listenerHandler, Event event, Throwable e) {
+		exceptionHandler.handleException(e, new SubscriberExceptionContext(this, event, listenerHandler.getEventListener(), listenerHandler.getHandlerMethod()));
+	}
+
 	/**
 	 * Checks whether to skip the invocation of a method annotated with {@link EventHandler}.
+	 * The event class and the priority are already matched by the {@link HandlerChain}, so only the
+	 * cancellation state of the event is taken into account.
 	 *
 	 * @param handlerMethod The method to check.
-	 * @param event         The event object.
 	 * @param cancellable   The {@link Cancellable} instance of the event, null if non-cancellable.
-	 * @param priority      The priority of the event handler.
 	 * @return {@code true} if the invocation should be skipped, {@code false} otherwise.
 	 */
-	private boolean skipHandlerInvocation(HandlerMethod handlerMethod, Event event, Cancellable cancellable, EventPriority priority) {
-		// Check if method is annotated and has correct priority
-		if (handlerMethod.getPriority() != priority) return true;
-
-		// If the event is cancellable
-		if (cancellable != null) {
-			// Resolve branching
-			boolean isCancelledAndIgnoreCancelled = cancellable.isCancelled() && handlerMethod.isIgnoreCancelled();
-			boolean isStoppedAndNotMonitorPriority = cancellable.isStopImmediatePropagation() && priority != EventPriority.MONITOR;
-
-			if (isCancelledAndIgnoreCancelled || isStoppedAndNotMonitorPriority)
-				return true;
-		}
+	private boolean skipHandlerInvocation(HandlerMethod handlerMethod, Cancellable cancellable) {
+		// Non-cancellable events are always delivered
+		if (cancellable == null) return false;
 
-		// If the annotation allows derivatives but the parameter is not an instance of the event or a subclass
-		if (handlerMethod.isHandleDerivatives() && !handlerMethod.getEventClass().isAssignableFrom(event.getClass()))
-			return true;
+		// Resolve branching
+		boolean isCancelledAndIgnoreCancelled = handlerMethod.isIgnoreCancelled() && cancellable.isCancelled();
+		boolean isStoppedAndNotMonitorPriority = handlerMethod.getPriority() != EventPriority.MONITOR && cancellable.isStopImmediatePropagation();
 
-		// If the annotation does not allow derivatives and the parameter is not an instance of the event
-		return !handlerMethod.isHandleDerivatives() && !handlerMethod.getEventClass().getClasz().equals(event.getClass());
+		return isCancelledAndIgnoreCancelled || isStoppedAndNotMonitorPriority;
 	}
 
 }
\ No newline at end of file
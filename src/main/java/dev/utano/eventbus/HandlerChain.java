@@ -0,0 +1,231 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.event.EventType;
+import dev.utano.eventbus.event.priority.EventPriority;
+import dev.utano.eventbus.filter.KeyedEvent;
+import dev.utano.eventbus.listener.ListenerInstance;
+import dev.utano.eventbus.metrics.EventBusMetrics;
+import dev.utano.eventbus.metrics.MeteredHandlerInvoker;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The priority-ordered list of handlers which have to be invoked for a specific event class.
+ * <p>
+ * Chains are built once per concrete event class and cached by the {@link EventBus},
+ * so firing an event only requires walking a flat array instead of checking the priority
+ * and the event class of every handler of every registered listener.
+ * The matching handlers are dropped into per-priority buckets merged once, so building a chain is linear
+ * and the dispatch only walks the matching handlers, regardless of the number of priority levels.
+ * <p>
+ * For {@link KeyedEvent}s, the handlers of the listeners registered with a key are indexed by that key:
+ * firing an event only walks the handlers registered without a key and the ones registered with the key of the event.
+ */
+public class HandlerChain {
+
+	private static final EventPriority[] PRIORITIES = EventPriority.values();
+	private static final EventType KEYED_EVENT = EventType.of(KeyedEvent.class);
+	private static final Comparator<ListenerHandler> ORDER_COMPARATOR = Comparator.comparingInt(listenerHandler -> listenerHandler.getHandlerMethod().getOrder());
+
+	@Getter
+	private final Class<? extends Event> eventClass;
+	@Getter
+	private final boolean cancellable;
+	protected final ListenerHandler[] handlers;
+	protected final ListenerHandler[] asyncHandlers;
+	/**
+	 * The metrics the handlers of this chain report to, null if metrics are disabled.
+	 */
+	@Getter
+	private final EventBusMetrics metrics;
+	/**
+	 * The keys of the keyed listeners among the synchronous handlers, null if the event class is not keyed or there is none.
+	 */
+	private final Set<Object> keys;
+	/**
+	 * The synchronous handlers of the listeners registered without a key, null if there are no keys.
+	 */
+	private final ListenerHandler[] unkeyedHandlers;
+	/**
+	 * The synchronous handlers of each key, merged with the unkeyed ones, built as the keys are fired.
+	 */
+	private final ConcurrentMap<Object, ListenerHandler[]> keyedHandlers;
+
+	private HandlerChain(Class<? extends Event> eventClass, boolean cancellable, ListenerHandler[] handlers, ListenerHandler[] asyncHandlers, EventBusMetrics metrics, Set<Object> keys) {
+		this.eventClass = eventClass;
+		this.cancellable = cancellable;
+		this.handlers = handlers;
+		this.asyncHandlers = asyncHandlers;
+		this.metrics = metrics;
+		this.keys = keys;
+		this.unkeyedHandlers = keys != null ? select(null) : null;
+		this.keyedHandlers = keys != null ? new ConcurrentHashMap<>() : null;
+	}
+
+	/**
+	 * Builds the chain of handlers for the specified event class.
+	 * <p>
+	 * Handlers are ordered by their {@link EventPriority}, then by their {@link dev.utano.eventbus.annotation.EventHandler#order() order},
+	 * handlers sharing both keep the order in which their listeners were registered.
+	 * Asynchronous handlers are kept apart, as they are invoked after all the synchronous ones.
+	 *
+	 * @param eventClass The concrete class of the fired event.
+	 * @param listenerInstances The registered listeners, in registration order.
+	 * @return The chain of handlers for the event class.
+	 */
+	public static HandlerChain build(Class<? extends Event> eventClass, Iterable<ListenerInstance> listenerInstances) {
+		return build(eventClass, listenerInstances, null);
+	}
+
+	/**
+	 * Builds the chain of handlers for the specified event class, reporting to the specified metrics.
+	 * <p>
+	 * When metrics are enabled the invoker of every handler is wrapped through {@link EventBusMetrics#wrap}, in a {@link MeteredHandlerInvoker} by default,
+	 * otherwise the handlers are invoked through the invoker of their {@link HandlerMethod}, with no overhead at all.
+	 *
+	 * @param eventClass        The concrete class of the fired event.
+	 * @param listenerInstances The registered listeners, in registration order.
+	 * @param metrics           The metrics to report to, null if metrics are disabled.
+	 * @return The chain of handlers for the event class.
+	 */
+	public static HandlerChain build(Class<? extends Event> eventClass, Iterable<ListenerInstance> listenerInstances, EventBusMetrics metrics) {
+		EventType eventType = EventType.of(eventClass);
+		boolean cancellable = eventType.isCancellable();
+
+		PriorityBuckets handlerBuckets = new PriorityBuckets();
+		PriorityBuckets asyncHandlerBuckets = new PriorityBuckets();
+		for (ListenerInstance listenerInstance : listenerInstances) {
+			for (HandlerMethod handlerMethod : listenerInstance.getHandlerMethods(cancellable)) {
+				if (!handlerMethod.handles(eventType)) continue;
+
+				ListenerHandler listenerHandler = metrics == null ? new ListenerHandler(listenerInstance, handlerMethod)
+						: new ListenerHandler(listenerInstance, handlerMethod, metrics.wrap(handlerMethod.getInvoker(), handlerMethod, eventClass));
+				(handlerMethod.isAsync() ? asyncHandlerBuckets : handlerBuckets).add(listenerHandler);
+			}
+		}
+		ListenerHandler[] handlers = handlerBuckets.merge();
+		Set<Object> keys = null;
+		if (eventType.isSubtypeOf(KEYED_EVENT)) {
+			for (ListenerHandler listenerHandler : handlers) {
+				if (listenerHandler.getKey() == null) continue;
+				if (keys == null)
+					keys = new HashSet<>();
+				keys.add(listenerHandler.getKey());
+			}
+		}
+		return new HandlerChain(eventClass, cancellable, handlers, asyncHandlerBuckets.merge(), metrics, keys);
+	}
+
+	/**
+	 * Retrieves the synchronous handlers which have to be invoked for the specified event, in order of priority.
+	 * If the event is keyed, the handlers of the listeners registered with other keys are left out.
+	 *
+	 * @param event The event being dispatched, of the class of this chain.
+	 * @return The synchronous handlers of the event.
+	 */
+	protected ListenerHandler[] getHandlers(Event event) {
+		if (keys == null)
+			return handlers;
+
+		Object key = ((KeyedEvent) event).getEventKey();
+		if (key == null)
+			return handlers;
+		if (!keys.contains(key))
+			return unkeyedHandlers;
+
+		ListenerHandler[] selected = keyedHandlers.get(key);
+		if (selected == null) {
+			// Concurrent selections are equal, only one of them is kept
+			selected = select(key);
+			ListenerHandler[] previous = keyedHandlers.putIfAbsent(key, selected);
+			if (previous != null)
+				selected = previous;
+		}
+		return selected;
+	}
+
+	/**
+	 * Selects the synchronous handlers of the listeners registered without a key or with the specified key, keeping their order.
+	 *
+	 * @param key The key, null to only select the handlers registered without a key.
+	 * @return The selected handlers.
+	 */
+	private ListenerHandler[] select(Object key) {
+		ListenerHandler[] selected = new ListenerHandler[handlers.length];
+		int size = 0;
+		for (ListenerHandler listenerHandler : handlers) {
+			if (listenerHandler.getKey() == null || listenerHandler.getKey().equals(key))
+				selected[size++] = listenerHandler;
+		}
+		return Arrays.copyOf(selected, size);
+	}
+
+	/**
+	 * @return the number of handlers in this chain, both synchronous and asynchronous.
+	 */
+	public int size() {
+		return handlers.length + asyncHandlers.length;
+	}
+
+	/**
+	 * @return whether this chain contains no handlers.
+	 */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * @return whether this chain contains asynchronous handlers.
+	 */
+	public boolean hasAsyncHandlers() {
+		return asyncHandlers.length != 0;
+	}
+
+	/**
+	 * Collects handlers in a bucket per priority, in the order they are added.
+	 */
+	private static final class PriorityBuckets {
+
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		private final List<ListenerHandler>[] buckets = new List[PRIORITIES.length];
+		private int size;
+		private boolean ordered;
+
+		private void add(ListenerHandler listenerHandler) {
+			int priority = listenerHandler.getHandlerMethod().getPriority().ordinal();
+			if (buckets[priority] == null)
+				buckets[priority] = new ArrayList<>();
+			buckets[priority].add(listenerHandler);
+			ordered |= listenerHandler.getHandlerMethod().getOrder() != 0;
+			size++;
+		}
+
+		/**
+		 * @return the handlers of all the buckets, by priority then by order.
+		 */
+		private ListenerHandler[] merge() {
+			ListenerHandler[] merged = new ListenerHandler[size];
+			int index = 0;
+			for (List<ListenerHandler> bucket : buckets) {
+				if (bucket == null) continue;
+				// Stable, registration order is kept within the same order
+				if (ordered)
+					bucket.sort(ORDER_COMPARATOR);
+				for (ListenerHandler listenerHandler : bucket)
+					merged[index++] = listenerHandler;
+			}
+			return merged;
+		}
+
+	}
+
+}
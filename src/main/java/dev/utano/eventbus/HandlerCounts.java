@@ -0,0 +1,90 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.event.EventType;
+import dev.utano.eventbus.listener.ListenerInstance;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Counts the handler methods of the registered listeners per handled {@link EventType}, so that whether an event class
+ * has any handler is answered without building its {@link HandlerChain}.
+ * <p>
+ * Instances are immutable: every {@link ListenerSnapshot} derives its counts from the ones of the previous snapshot,
+ * only counting the handlers of the listeners added or removed in between.
+ */
+final class HandlerCounts {
+
+	static final HandlerCounts EMPTY = new HandlerCounts(new int[][]{new int[0], new int[0]}, new BitSet[]{new BitSet(), new BitSet()});
+
+	/**
+	 * Indexed by whether the handlers are the ones of cancellable events, then by twice the id of the handled type,
+	 * plus one for the handlers of derivatives.
+	 */
+	private final int[][] counts;
+	/**
+	 * The ids of the types handled along with their derivatives, indexed by whether the handlers are the ones of cancellable events.
+	 */
+	private final BitSet[] derivativeTypes;
+
+	private HandlerCounts(int[][] counts, BitSet[] derivativeTypes) {
+		this.counts = counts;
+		this.derivativeTypes = derivativeTypes;
+	}
+
+	/**
+	 * Checks whether any handler handles events of the specified type, in a time independent of the number of listeners.
+	 *
+	 * @param eventType The type of the concrete class of the event.
+	 * @return {@code true} if any handler handles the type, {@code false} otherwise.
+	 */
+	boolean hasHandlers(EventType eventType) {
+		int cancellable = eventType.isCancellable() ? 1 : 0;
+		int index = eventType.getId() * 2;
+		int[] typeCounts = counts[cancellable];
+		return index < typeCounts.length && typeCounts[index] > 0 || eventType.isSubtypeOfAny(derivativeTypes[cancellable]);
+	}
+
+	/**
+	 * Derives the counts of a snapshot from the ones of the previous snapshot.
+	 * The listeners kept from the previous snapshot must be in the same order, and the new ones appended, as the
+	 * EventBus does, so that the added and removed listeners are found in a single pass without hashing.
+	 *
+	 * @param previous The listener instances of the previous snapshot.
+	 * @param current  The listener instances of the new snapshot.
+	 * @return The counts of the new snapshot, this instance if the listeners did not change.
+	 */
+	HandlerCounts update(ListenerInstance[] previous, ListenerInstance[] current) {
+		if (previous == current)
+			return this;
+
+		int[][] counts = {this.counts[0].clone(), this.counts[1].clone()};
+		BitSet[] derivativeTypes = {(BitSet) this.derivativeTypes[0].clone(), (BitSet) this.derivativeTypes[1].clone()};
+		int kept = 0;
+		for (ListenerInstance listenerInstance : previous) {
+			if (kept < current.length && current[kept] == listenerInstance)
+				kept++;
+			else
+				count(counts, derivativeTypes, listenerInstance, -1);
+		}
+		for (int i = kept; i < current.length; i++)
+			count(counts, derivativeTypes, current[i], 1);
+		return new HandlerCounts(counts, derivativeTypes);
+	}
+
+	private static void count(int[][] counts, BitSet[] derivativeTypes, ListenerInstance listenerInstance, int delta) {
+		for (int cancellable = 0; cancellable < 2; cancellable++) {
+			for (HandlerMethod handlerMethod : listenerInstance.getHandlerMethods(cancellable == 1)) {
+				int id = EventType.of(handlerMethod.getEventClass().getClasz()).getId();
+				int index = id * 2 + (handlerMethod.isHandleDerivatives() ? 1 : 0);
+				if (index >= counts[cancellable].length)
+					counts[cancellable] = Arrays.copyOf(counts[cancellable], Math.max(index + 1, counts[cancellable].length * 2));
+
+				counts[cancellable][index] += delta;
+				if (handlerMethod.isHandleDerivatives())
+					derivativeTypes[cancellable].set(id, counts[cancellable][index] > 0);
+			}
+		}
+	}
+
+}
@@ -2,7 +2,12 @@ package dev.utano.eventbus;
 
 import dev.utano.eventbus.annotation.EventHandler;
 import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.event.EventType;
 import dev.utano.eventbus.event.priority.EventPriority;
+import dev.utano.eventbus.filter.EventFilter;
+import dev.utano.eventbus.filter.EventFilters;
+import dev.utano.eventbus.invoker.HandlerInvoker;
+import dev.utano.eventbus.invoker.HandlerInvokers;
 import dev.utano.eventbus.listener.ListenerClass;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,7 +18,7 @@ import java.lang.reflect.Method;
 
 /**
  * Represents a handler method for an event listener.
- * It encapsulates the listener class, method, event class and annotation preferences.
+ * It encapsulates the listener class, method, event class, invoker and annotation preferences.
  */
 @Getter
 @AllArgsConstructor
@@ -23,22 +28,72 @@ public class HandlerMethod {
 	private final ListenerClass<?> listenerClass;
 	private final Method method;
 	private final BetterReflectionClass<? extends Event> eventClass;
+	private final HandlerInvoker invoker;
 
 	// Caching the annotation for significant performance boost
 	private final EventPriority priority;
+	private final int order;
 	private final boolean handleDerivatives;
 	private final boolean ignoreCancelled;
+	private final boolean async;
+	private final boolean sticky;
+	/**
+	 * The filter of the handler, null if it handles every event.
+	 */
+	private final EventFilter<?> filter;
+	/**
+	 * The class of the code handling the events, such as the consumer of a functional subscription,
+	 * null if it is the class declaring the method.
+	 */
+	private final Class<?> handlerClass;
 
 	@SuppressWarnings("unchecked")
 	public HandlerMethod(ListenerClass<?> listenerClass, Method method, EventHandler annotation) {
 		this.listenerClass = listenerClass;
 		this.method = method;
+		this.handlerClass = null;
 
 		this.eventClass = (BetterReflectionClass<? extends Event>) new BetterReflectionClass<>(method.getParameterTypes()[0]);
+		this.invoker = HandlerInvokers.create(method);
 		this.priority = annotation.priority();
+		this.order = annotation.order();
 		this.handleDerivatives = annotation.handleDerivatives();
 		this.ignoreCancelled = annotation.ignoreCancelled();
+		this.async = annotation.async();
+		this.sticky = annotation.sticky();
+		this.filter = EventFilters.create(annotation.filter());
 	}
 
+	/**
+	 * @return the class of the code handling the events: the consumer class of functional subscriptions,
+	 * the class declaring the method otherwise.
+	 */
+	public Class<?> getHandlerClass() {
+		return handlerClass != null ? handlerClass : method.getDeclaringClass();
+	}
+
+	/**
+	 * Checks whether this handler has to be invoked for events of the specified class.
+	 *
+	 * @param eventClass The concrete class of the event.
+	 * @return {@code true} if the event class matches the handled event class, or is a subclass of it when derivatives are handled.
+	 */
+	public boolean handles(Class<? extends Event> eventClass) {
+		return handles(EventType.of(eventClass));
+	}
+
+	/**
+	 * Checks whether this handler has to be invoked for events of the specified type.
+	 * Both checks only compare the ids of the {@link EventType}s, without walking the class hierarchy.
+	 *
+	 * @param eventType The type of the concrete class of the event.
+	 * @return {@code true} if the event type matches the handled event type, or is a subtype of it when derivatives are handled.
+	 */
+	public boolean handles(EventType eventType) {
+		EventType handledType = EventType.of(this.eventClass.getClasz());
+		if (handleDerivatives)
+			return eventType.isSubtypeOf(handledType);
+		return eventType == handledType;
+	}
 
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package dev.utano.eventbus;
 
 
 import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.dispatcher.ListenerDispatcher;
+import dev.utano.eventbus.dispatcher.ListenerDispatchers;
 import dev.utano.eventbus.event.Event;
 import dev.utano.eventbus.event.priority.MethodPriorityComparator;
 import dev.utano.eventbus.listener.ListenerClass;
@@ -10,22 +12,37 @@ import lombok.RequiredArgsConstructor;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 /**
  * The Handlers class is responsible for scanning a listener class and identifying
  * event handler methods marked with the @EventHandler annotation.
+ * If a {@link ListenerDispatcher} was generated for the listener class, its handler methods are used instead.
  */
 @RequiredArgsConstructor
 public class Handlers {
 
 	public static final Class<EventHandler> ANNOTATION = EventHandler.class;
 
+	/**
+	 * Orders the handler methods of a listener by priority and order, then by signature,
+	 * as the order in which reflection returns the methods of a class is unspecified.
+	 */
+	private static final Comparator<HandlerMethod> METHOD_COMPARATOR = new MethodPriorityComparator()
+			.thenComparing(handlerMethod -> handlerMethod.getMethod().getName())
+			.thenComparing(handlerMethod -> handlerMethod.getEventClass().getClasz().getName());
+
 	@Getter
 	private final ListenerClass<?> listenerClass;
 	private final boolean cancellable;
 
 	protected HandlerMethod[] handlerMethods;
+	/**
+	 * Whether any of the handler methods is sticky, so that registering listeners without sticky handlers skips the sticky events.
+	 */
+	@Getter
+	private boolean stickyHandlers;
 
 	/**
 	 * Scans the listener class and identifies event handler methods marked with the {@link EventHandler} annotation.
@@ -37,6 +54,45 @@ public class Handlers {
 			throw new IllegalStateException("This class has been scanned already.");
 
 		List<HandlerMethod> methodList = new ArrayList<>();
+		ListenerDispatcher dispatcher = ListenerDispatchers.find(listenerClass.getClasz());
+		if (dispatcher != null)
+			addGeneratedHandlers(dispatcher, methodList);
+		else
+			addScannedHandlers(methodList);
+
+		methodList.sort(METHOD_COMPARATOR); // Sorting by priority
+		handlerMethods = methodList.toArray(new HandlerMethod[0]); // Converting to array for significant performance improvement
+		for (HandlerMethod handlerMethod : handlerMethods)
+			stickyHandlers |= handlerMethod.isSticky();
+	}
+
+	/**
+	 * Adds the handler methods described by the generated dispatcher of the listener class, without scanning it.
+	 *
+	 * @param dispatcher The generated dispatcher of the listener class.
+	 * @param methodList The list to add the handler methods to.
+	 */
+	private void addGeneratedHandlers(ListenerDispatcher dispatcher, List<HandlerMethod> methodList) {
+		HandlerMethod[] generatedMethods;
+		try {
+			generatedMethods = dispatcher.createHandlerMethods(listenerClass);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("The generated dispatcher of " + listenerClass.getClasz().getName() + " is out of date.", e);
+		}
+
+		for (HandlerMethod handlerMethod : generatedMethods) {
+			// If this list is for Cancellable events and the event is not cancellable or vice-versa continue
+			if (cancellable != Event.CANCELLABLE_CLASS.isAssignableFrom(handlerMethod.getEventClass().getClasz())) continue;
+			methodList.add(handlerMethod);
+		}
+	}
+
+	/**
+	 * Adds the handler methods found by scanning the listener class for the {@link EventHandler} annotation.
+	 *
+	 * @param methodList The list to add the handler methods to.
+	 */
+	private void addScannedHandlers(List<HandlerMethod> methodList) {
 		for (Method method : listenerClass.getMethods()) {
 
 			// Check for EventHandler annotation
@@ -51,8 +107,13 @@ public class Handlers {
 
 			methodList.add(new HandlerMethod(listenerClass, method, method.getAnnotation(ANNOTATION)));
 		}
-		methodList.sort(new MethodPriorityComparator()); // Sorting by priority
-		handlerMethods = methodList.toArray(new HandlerMethod[0]); // Converting to array for significant performance improvement
+	}
+
+	/**
+	 * @return the handler methods of the listener class, sorted by priority.
+	 */
+	public HandlerMethod[] getHandlerMethods() {
+		return handlerMethods;
 	}
 
 	/**
@@ -0,0 +1,81 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.filter.EventFilter;
+import dev.utano.eventbus.filter.EventFilters;
+import dev.utano.eventbus.filter.KeyedEvent;
+import dev.utano.eventbus.invoker.HandlerInvoker;
+import dev.utano.eventbus.listener.EventListener;
+import dev.utano.eventbus.listener.ListenerInstance;
+import lombok.Getter;
+
+/**
+ * Binds a {@link HandlerMethod} to the {@link ListenerInstance} it has to be invoked on.
+ * Instances of this class are the entries of a {@link HandlerChain}.
+ *
+ * @see HandlerChain
+ */
+@Getter
+public class ListenerHandler {
+
+	private final ListenerInstance listenerInstance;
+	private final HandlerMethod handlerMethod;
+	/**
+	 * The invoker of the handler method, wrapped when the {@link HandlerChain} is metered.
+	 */
+	private final HandlerInvoker invoker;
+	/**
+	 * The filters of the handler method and of the listener combined, null if there is none.
+	 */
+	private final EventFilter<Event> filter;
+	/**
+	 * The key of the {@link KeyedEvent}s the listener receives, null to receive all of them.
+	 */
+	private final Object key;
+
+	public ListenerHandler(ListenerInstance listenerInstance, HandlerMethod handlerMethod) {
+		this(listenerInstance, handlerMethod, handlerMethod.getInvoker());
+	}
+
+	public ListenerHandler(ListenerInstance listenerInstance, HandlerMethod handlerMethod, HandlerInvoker invoker) {
+		this.listenerInstance = listenerInstance;
+		this.handlerMethod = handlerMethod;
+		this.invoker = invoker;
+		this.filter = EventFilters.and(handlerMethod.getFilter(), listenerInstance.getFilter());
+		this.key = listenerInstance.getKey();
+	}
+
+	/**
+	 * @return the event listener the handler method is invoked on, null if it was registered weakly and has been garbage collected.
+	 */
+	public EventListener getEventListener() {
+		return listenerInstance.getEventListener();
+	}
+
+	/**
+	 * Checks whether the listener receives keyed events with the specified key.
+	 *
+	 * @param eventKey The key of the event.
+	 * @return {@code true} if the listener has no key, or if its key equals the key of the event.
+	 */
+	public boolean matchesKey(Object eventKey) {
+		return key == null || eventKey == null || key.equals(eventKey);
+	}
+
+	/**
+	 * Invokes the handler method on the listener, unless it was registered weakly and has been garbage collected,
+	 * or the event is rejected by the key or the filter of the handler.
+	 *
+	 * @param event The event to pass to the handler method.
+	 * @throws Exception If the handler method or its filter throws an exception.
+	 */
+	public void invoke(Event event) throws Exception {
+		EventListener eventListener = listenerInstance.getEventListener();
+		if (eventListener == null) return;
+		if (key != null && event instanceof KeyedEvent && !matchesKey(((KeyedEvent) event).getEventKey())) return;
+		if (filter != null && !filter.test(event)) return;
+
+		invoker.invoke(eventListener, event);
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,108 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.event.EventType;
+import dev.utano.eventbus.listener.ListenerInstance;
+import dev.utano.eventbus.metrics.EventBusMetrics;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An immutable view of the listeners registered to an {@link EventBus} at a given point in time.
+ * <p>
+ * Every registration or unregistration publishes a new snapshot, so threads firing events never observe
+ * a listener list while it is being modified and never need to lock.
+ * The {@link HandlerChain}s are cached within the snapshot they were built from, therefore a chain can
+ * never mix listeners from different snapshots.
+ * Likewise, enabling or disabling metrics publishes a new snapshot, so that the chains are rebuilt with the right invokers.
+ * <p>
+ * Snapshots also count the handlers of each event type, derived from the counts of the previous snapshot,
+ * so that {@link #hasHandlers(Class)} does not have to build a chain.
+ */
+public class ListenerSnapshot {
+
+	/**
+	 * The snapshot of an EventBus with no registered listeners.
+	 */
+	public static final ListenerSnapshot EMPTY = new ListenerSnapshot(new ListenerInstance[0]);
+
+	protected final ListenerInstance[] listenerInstances;
+	/**
+	 * The metrics the chains of this snapshot report to, null if metrics are disabled.
+	 */
+	@Getter
+	private final EventBusMetrics metrics;
+	private final ConcurrentMap<Class<? extends Event>, HandlerChain> handlerChains = new ConcurrentHashMap<>();
+	private final HandlerCounts handlerCounts;
+
+	public ListenerSnapshot(ListenerInstance[] listenerInstances) {
+		this(listenerInstances, null);
+	}
+
+	public ListenerSnapshot(ListenerInstance[] listenerInstances, EventBusMetrics metrics) {
+		this(listenerInstances, metrics, HandlerCounts.EMPTY.update(new ListenerInstance[0], listenerInstances));
+	}
+
+	/**
+	 * Derives a snapshot from the previous one, only counting the handlers of the added and removed listeners.
+	 *
+	 * @param listenerInstances The listener instances, the ones kept from the previous snapshot in the same order, followed by the added ones.
+	 * @param previous          The previous snapshot.
+	 * @param metrics           The metrics the chains of this snapshot report to, null if metrics are disabled.
+	 */
+	ListenerSnapshot(ListenerInstance[] listenerInstances, ListenerSnapshot previous, EventBusMetrics metrics) {
+		this(listenerInstances, metrics, previous.handlerCounts.update(previous.listenerInstances, listenerInstances));
+	}
+
+	private ListenerSnapshot(ListenerInstance[] listenerInstances, EventBusMetrics metrics, HandlerCounts handlerCounts) {
+		this.listenerInstances = listenerInstances;
+		this.metrics = metrics;
+		this.handlerCounts = handlerCounts;
+	}
+
+	/**
+	 * Retrieves the chain of handlers for the specified event class, building it if it has not been cached yet.
+	 *
+	 * @param eventClass The concrete class of the event.
+	 * @return The priority-ordered chain of handlers for the event class.
+	 */
+	public HandlerChain getHandlerChain(Class<? extends Event> eventClass) {
+		HandlerChain handlerChain = handlerChains.get(eventClass);
+		if (handlerChain == null) {
+			// Concurrent builds produce equal chains, only one of them is kept
+			handlerChain = HandlerChain.build(eventClass, Arrays.asList(listenerInstances), metrics);
+			HandlerChain previous = handlerChains.putIfAbsent(eventClass, handlerChain);
+			if (previous != null)
+				handlerChain = previous;
+		}
+		return handlerChain;
+	}
+
+	/**
+	 * Checks whether any handler of this snapshot handles events of the specified class, without building its chain.
+	 *
+	 * @param eventClass The concrete class of the event.
+	 * @return {@code true} if any handler handles the class, {@code false} otherwise.
+	 */
+	public boolean hasHandlers(Class<? extends Event> eventClass) {
+		return handlerCounts.hasHandlers(EventType.of(eventClass));
+	}
+
+	/**
+	 * @return a copy of the listener instances of this snapshot, in registration order.
+	 */
+	public ListenerInstance[] getListenerInstances() {
+		return listenerInstances.clone();
+	}
+
+	/**
+	 * @return the number of registered listeners.
+	 */
+	public int size() {
+		return listenerInstances.length;
+	}
+
+}
\ No newline at end of file
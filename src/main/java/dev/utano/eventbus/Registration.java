@@ -0,0 +1,44 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.listener.EventListener;
+import dev.utano.eventbus.listener.ListenerInstance;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The handle of a listener registered through {@link EventBus#registerHandle(EventListener)}.
+ * <p>
+ * Closing the handle unregisters the listener in amortized constant time: the listener is marked as removed,
+ * so it is skipped by the dispatch right away, and removed listeners are purged from the EventBus in bulk.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class Registration implements AutoCloseable {
+
+	private final EventBus eventBus;
+	private final ListenerInstance listenerInstance;
+
+	/**
+	 * @return the registered listener, null if it has been unregistered, garbage collected, or if the EventBus has been closed.
+	 */
+	public EventListener getEventListener() {
+		return eventBus.isClosed() ? null : listenerInstance.getEventListener();
+	}
+
+	/**
+	 * @return whether the listener is still registered.
+	 */
+	public boolean isActive() {
+		return getEventListener() != null;
+	}
+
+	/**
+	 * Unregisters the listener, does nothing if it has been unregistered already.
+	 */
+	@Override
+	public void close() {
+		eventBus.unregister(this);
+	}
+
+}
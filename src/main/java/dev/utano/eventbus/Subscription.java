@@ -0,0 +1,90 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.event.priority.EventPriority;
+import dev.utano.eventbus.listener.EventListener;
+import dev.utano.eventbus.listener.ListenerClass;
+import dev.utano.eventbus.listener.ListenerInstance;
+import top.wavelength.betterreflection.BetterReflectionClass;
+
+import java.lang.reflect.Method;
+import java.util.function.Consumer;
+
+/**
+ * The listener instance of a functional subscription made through {@link EventBus#subscribe(Class, Consumer, EventPriority, boolean)}.
+ * <p>
+ * Its single {@link HandlerMethod} is built from the consumer without scanning any class, and its invoker calls the consumer
+ * directly. Once registered, the subscription is ordered in the handler chains like any annotated handler.
+ */
+final class Subscription extends ListenerInstance {
+
+	private static final ListenerClass<Subscriber> LISTENER_CLASS = ListenerClass.of(Subscriber.class);
+	private static final Method ACCEPT_METHOD;
+	private static final HandlerMethod[] NO_HANDLER_METHODS = new HandlerMethod[0];
+
+	static {
+		try {
+			ACCEPT_METHOD = Subscriber.class.getMethod("accept", Event.class);
+		} catch (NoSuchMethodException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private final HandlerMethod[] handlerMethods;
+	private final boolean cancellable;
+	private final ClassLoader classLoader;
+
+	@SuppressWarnings("unchecked")
+	<T extends Event> Subscription(Class<T> eventClass, Consumer<? super T> consumer, EventPriority priority, boolean ignoreCancelled) {
+		super(new Subscriber((Consumer<Event>) consumer), LISTENER_CLASS);
+		Consumer<Event> eventConsumer = (Consumer<Event>) consumer;
+		this.handlerMethods = new HandlerMethod[]{HandlerMethod.builder()
+				.listenerClass(LISTENER_CLASS)
+				.method(ACCEPT_METHOD)
+				.eventClass(new BetterReflectionClass<>(eventClass))
+				.invoker((listener, event) -> eventConsumer.accept(event))
+				.priority(priority)
+				.handleDerivatives(true)
+				.ignoreCancelled(ignoreCancelled)
+				.handlerClass(consumer.getClass())
+				.build()};
+		this.cancellable = Event.CANCELLABLE_CLASS.isAssignableFrom(eventClass);
+		this.classLoader = consumer.getClass().getClassLoader();
+	}
+
+	@Override
+	public HandlerMethod[] getHandlerMethods(boolean cancellable) {
+		return cancellable == this.cancellable ? handlerMethods : NO_HANDLER_METHODS;
+	}
+
+	/**
+	 * @return the class loader of the consumer, rather than the one of the shared {@link Subscriber} class.
+	 */
+	@Override
+	public ClassLoader getClassLoader() {
+		return classLoader;
+	}
+
+	/**
+	 * The listener of a subscription, which only exists so that the subscription can be described like any other listener.
+	 */
+	static final class Subscriber implements EventListener {
+
+		private final Consumer<Event> consumer;
+
+		private Subscriber(Consumer<Event> consumer) {
+			this.consumer = consumer;
+		}
+
+		/**
+		 * Passes the event to the consumer of the subscription.
+		 *
+		 * @param event The event.
+		 */
+		public void accept(Event event) {
+			consumer.accept(event);
+		}
+
+	}
+
+}
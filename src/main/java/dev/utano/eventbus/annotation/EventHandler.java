@@ -1,5 +1,6 @@
 package dev.utano.eventbus.annotation;
 
+import dev.utano.eventbus.filter.EventFilter;
 import dev.utano.eventbus.listener.EventListener;
 import dev.utano.eventbus.event.priority.EventPriority;
 
@@ -34,6 +35,16 @@ public @interface EventHandler {
 	 */
 	EventPriority priority() default EventPriority.NORMAL;
 
+	/**
+	 * Returns the order of the event handler among the handlers sharing its priority.
+	 * <p>
+	 * Handlers with a lower order are executed first. Handlers sharing both the priority and the order are executed
+	 * in the order their listeners were registered, then by method name within the same listener.
+	 *
+	 * @return The order of the event handler within its priority.
+	 */
+	int order() default 0;
+
 	/**
 	 * Returns whether the event handler should also handle events of subclasses of the specified event type.
 	 *
@@ -49,4 +60,38 @@ public @interface EventHandler {
 	 */
 	boolean ignoreCancelled() default false;
 
+	/**
+	 * Returns whether the event handler should be invoked asynchronously.
+	 * <p>
+	 * Asynchronous handlers are submitted to the EventBus' executor once all the synchronous handlers
+	 * have been invoked, in order of priority. They can read but not modify the cancellation state of the event.
+	 *
+	 * @return {@code true} if the event handler should be invoked asynchronously, {@code false} otherwise.
+	 * @see dev.utano.eventbus.EventBus#fireEventAsync(dev.utano.eventbus.event.Event)
+	 */
+	boolean async() default false;
+
+	/**
+	 * Returns whether the event handler should receive the sticky events posted before its listener was registered.
+	 * <p>
+	 * When the listener is registered, the handler is invoked with the latest event of every cached event class it handles.
+	 * Sticky handlers keep receiving fired events like any other handler.
+	 *
+	 * @return {@code true} if the event handler should receive the cached sticky events, {@code false} otherwise.
+	 * @see dev.utano.eventbus.EventBus#postSticky(dev.utano.eventbus.event.Event)
+	 */
+	boolean sticky() default false;
+
+	/**
+	 * Returns the class of the filter evaluated before each invocation of the event handler.
+	 * <p>
+	 * The filter is instantiated once per handler through its no-argument constructor, and the handler is skipped
+	 * for the events the filter rejects, without invoking it. The default, {@link EventFilter} itself, means no filter.
+	 *
+	 * @return The class of the filter of the event handler.
+	 * @see EventFilter
+	 */
+	@SuppressWarnings("rawtypes")
+	Class<? extends EventFilter> filter() default EventFilter.class;
+
 }
\ No newline at end of file
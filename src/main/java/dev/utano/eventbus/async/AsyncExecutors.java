@@ -0,0 +1,88 @@
+package dev.utano.eventbus.async;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Provides the executors used to invoke asynchronous {@link dev.utano.eventbus.annotation.EventHandler}s.
+ * <p>
+ * On JDK 21 or later the default executor starts a virtual thread per handler, on older JDKs it is a
+ * bounded pool of daemon threads which runs the handlers on the firing thread once its queue is full.
+ */
+public final class AsyncExecutors {
+
+	/**
+	 * The maximum number of handlers queued by the bounded pool before they are run on the firing thread.
+	 */
+	public static final int DEFAULT_QUEUE_CAPACITY = 4096;
+
+	private AsyncExecutors() {
+	}
+
+	/**
+	 * @return the executor shared by the EventBuses which were not given one, created on first use.
+	 */
+	public static Executor getDefault() {
+		return DefaultExecutorHolder.INSTANCE;
+	}
+
+	/**
+	 * @return an executor starting a virtual thread per task if the JDK supports them, a bounded pool otherwise.
+	 */
+	public static Executor create() {
+		Executor virtualThreadExecutor = newVirtualThreadExecutor();
+		return virtualThreadExecutor != null ? virtualThreadExecutor : newBoundedExecutor(Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY);
+	}
+
+	/**
+	 * Creates a pool of daemon threads, which runs tasks on the submitting thread once its queue is full.
+	 *
+	 * @param threads       The number of threads of the pool.
+	 * @param queueCapacity The maximum number of tasks waiting for a thread.
+	 * @return The bounded executor.
+	 */
+	public static Executor newBoundedExecutor(int threads, int queueCapacity) {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), new DaemonThreadFactory(), new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	/**
+	 * Creates an executor starting a virtual thread per task.
+	 * The method is looked up reflectively, as the EventBus targets Java 8.
+	 *
+	 * @return The virtual thread executor, or null if virtual threads are not supported by the JDK.
+	 */
+	public static Executor newVirtualThreadExecutor() {
+		try {
+			Method factory = java.util.concurrent.Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (Executor) factory.invoke(null);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	private static final class DefaultExecutorHolder {
+		private static final Executor INSTANCE = create();
+	}
+
+	private static final class DaemonThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger threadCount = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "EventBus-async-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+
+	}
+
+}
\ No newline at end of file
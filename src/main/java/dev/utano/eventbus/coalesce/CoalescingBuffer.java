@@ -0,0 +1,221 @@
+package dev.utano.eventbus.coalesce;
+
+import dev.utano.eventbus.EventBus;
+import dev.utano.eventbus.event.Event;
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * Buffers the {@link CoalescingEvent}s posted during a tick, merging the ones of the same class and key,
+ * and fires the merged events on {@link #flush()}, in the order their first occurrence was posted.
+ * <p>
+ * Events are looked up in an open-addressing table keyed by their class and coalescing key, so once the buffer has
+ * grown to the number of distinct events of a tick, posting and flushing do not allocate.
+ * Events which are not coalescing are fired right away through {@link EventBus#fireEvent(Event)}.
+ * <p>
+ * A buffer is meant to be used by a single thread, such as the thread ticking a world. Handlers may post events while
+ * the buffer is being flushed, but may not flush it again.
+ */
+public class CoalescingBuffer {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	@Getter
+	private final EventBus eventBus;
+
+	/**
+	 * The pending events, in the order their first occurrence was posted.
+	 */
+	private Event[] pending;
+	/**
+	 * The index in the table of each pending event, so that flushing only clears the used entries.
+	 */
+	private int[] pendingTableIndexes;
+	private int size;
+	/**
+	 * The events being flushed, swapped with the pending ones so that events posted by handlers wait for the next flush.
+	 */
+	private Event[] flushing;
+	/**
+	 * Whether a flush is in progress, so that handlers cannot flush the buffer while it is reading the flushed events.
+	 */
+	private boolean flushInProgress;
+
+	/**
+	 * The open-addressing table, mapping the class and the key of an event to its index in the pending events, plus one.
+	 */
+	private Class<?>[] tableClasses;
+	private long[] tableKeys;
+	private int[] tableSlots;
+
+	public CoalescingBuffer(EventBus eventBus) {
+		this.eventBus = eventBus;
+		this.pending = new Event[DEFAULT_CAPACITY];
+		this.pendingTableIndexes = new int[DEFAULT_CAPACITY];
+		this.flushing = new Event[DEFAULT_CAPACITY];
+		allocateTable(DEFAULT_CAPACITY * 2);
+	}
+
+	/**
+	 * Buffers the event if it is coalescing, merging it with the pending event of the same class and key if any,
+	 * fires it right away otherwise.
+	 *
+	 * @param event The event to post.
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public void post(Event event) {
+		if (!(event instanceof CoalescingEvent)) {
+			eventBus.fireEvent(event);
+			return;
+		}
+
+		Class<?> eventClass = event.getClass();
+		long key = ((CoalescingEvent<?>) event).getCoalescingKey();
+		int mask = tableSlots.length - 1;
+		int index = hash(eventClass, key) & mask;
+		while (tableSlots[index] != 0) {
+			if (tableClasses[index] == eventClass && tableKeys[index] == key) {
+				int slot = tableSlots[index] - 1;
+				pending[slot] = ((CoalescingEvent) pending[slot]).coalesce(event);
+				return;
+			}
+			index = (index + 1) & mask;
+		}
+
+		if (size == pending.length) {
+			grow();
+			post(event);
+			return;
+		}
+
+		tableClasses[index] = eventClass;
+		tableKeys[index] = key;
+		tableSlots[index] = size + 1;
+		pending[size] = event;
+		pendingTableIndexes[size] = index;
+		size++;
+	}
+
+	/**
+	 * Fires the merged events, in the order their first occurrence was posted, and empties the buffer.
+	 * Events posted by the handlers are buffered until the next flush.
+	 * <p>
+	 * If firing an event throws, the events which have not been fired yet are put back in the buffer, ahead of the
+	 * events posted by the handlers in the meantime, before the exception is propagated.
+	 *
+	 * @return The number of fired events.
+	 * @throws IllegalStateException if called by a handler while the buffer is being flushed.
+	 */
+	public int flush() throws IllegalStateException {
+		if (flushInProgress)
+			throw new IllegalStateException("The buffer is already being flushed.");
+
+		int count = size;
+		Event[] events = pending;
+		pending = flushing;
+		flushing = events;
+		clearTable();
+
+		flushInProgress = true;
+		int fired = 0;
+		try {
+			while (fired < count)
+				eventBus.fireEvent(events[fired++]);
+		} finally {
+			flushInProgress = false;
+			if (fired < count)
+				requeue(events, fired, count);
+			Arrays.fill(events, 0, count, null);
+		}
+		return count;
+	}
+
+	/**
+	 * Puts back the events a failed flush has not fired, ahead of the events posted by the handlers in the meantime,
+	 * which are merged into them.
+	 *
+	 * @param events The flushed events.
+	 * @param from   The index of the first event which has not been fired.
+	 * @param to     The number of flushed events.
+	 */
+	private void requeue(Event[] events, int from, int to) {
+		Event[] posted = Arrays.copyOf(pending, size);
+		Arrays.fill(pending, 0, size, null);
+		clearTable();
+		for (int i = from; i < to; i++)
+			post(events[i]);
+		for (Event event : posted)
+			post(event);
+	}
+
+	/**
+	 * Clears the table entries of the pending events, emptying the buffer.
+	 */
+	private void clearTable() {
+		for (int i = 0; i < size; i++) {
+			int index = pendingTableIndexes[i];
+			tableClasses[index] = null;
+			tableSlots[index] = 0;
+		}
+		size = 0;
+	}
+
+	/**
+	 * @return the number of pending merged events.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return whether no event is pending.
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Doubles the capacity of the buffer, rehashing the pending events.
+	 */
+	private void grow() {
+		int capacity = pending.length * 2;
+		pending = Arrays.copyOf(pending, capacity);
+		pendingTableIndexes = Arrays.copyOf(pendingTableIndexes, capacity);
+		flushing = new Event[capacity];
+
+		allocateTable(capacity * 2);
+		int mask = tableSlots.length - 1;
+		for (int slot = 0; slot < size; slot++) {
+			Class<?> eventClass = pending[slot].getClass();
+			long key = ((CoalescingEvent<?>) pending[slot]).getCoalescingKey();
+			int index = hash(eventClass, key) & mask;
+			while (tableSlots[index] != 0)
+				index = (index + 1) & mask;
+
+			tableClasses[index] = eventClass;
+			tableKeys[index] = key;
+			tableSlots[index] = slot + 1;
+			pendingTableIndexes[slot] = index;
+		}
+	}
+
+	/**
+	 * Allocates an empty table, kept at most half full so that probe sequences stay short.
+	 *
+	 * @param capacity The capacity of the table, a power of two.
+	 */
+	private void allocateTable(int capacity) {
+		tableClasses = new Class<?>[capacity];
+		tableKeys = new long[capacity];
+		tableSlots = new int[capacity];
+	}
+
+	private static int hash(Class<?> eventClass, long key) {
+		long hash = key * 0x9E3779B97F4A7C15L + System.identityHashCode(eventClass);
+		hash ^= hash >>> 32;
+		hash *= 0xC2B2AE3D27D4EB4FL;
+		return (int) (hash ^ hash >>> 29);
+	}
+
+}
@@ -0,0 +1,29 @@
+package dev.utano.eventbus.coalesce;
+
+import dev.utano.eventbus.event.Event;
+
+/**
+ * An event whose redundant occurrences within a tick can be merged into one before being dispatched,
+ * such as the state changes of an entity whose handlers only care about the final state.
+ * <p>
+ * Events of the same class sharing their {@link #getCoalescingKey() key} are merged by a {@link CoalescingBuffer},
+ * which only fires the merged event when it is {@link CoalescingBuffer#flush() flushed}.
+ *
+ * @param <E> The type of the event itself.
+ */
+public interface CoalescingEvent<E extends Event> {
+
+	/**
+	 * @return the key of the event, such as an entity id. Only events of the same class and key are merged.
+	 */
+	long getCoalescingKey();
+
+	/**
+	 * Merges a newer event of the same class and key into this one.
+	 *
+	 * @param newer The event posted after this one.
+	 * @return The merged event, which may be this event updated, the newer one, or a new event.
+	 */
+	E coalesce(E newer);
+
+}
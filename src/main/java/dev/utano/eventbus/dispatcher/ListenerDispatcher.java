@@ -0,0 +1,34 @@
+package dev.utano.eventbus.dispatcher;
+
+import dev.utano.eventbus.HandlerMethod;
+import dev.utano.eventbus.listener.EventListener;
+import dev.utano.eventbus.listener.ListenerClass;
+
+/**
+ * Describes the {@link dev.utano.eventbus.annotation.EventHandler} methods of a listener class without reflection.
+ * <p>
+ * Dispatchers are generated at compile time by the {@code EventBus-processor} annotation processor, named after
+ * their listener class as described by {@link ListenerDispatchers}, and also listed as services under
+ * {@code META-INF/services/dev.utano.eventbus.dispatcher.ListenerDispatcher}.
+ * When a dispatcher is found for a listener class, its handler methods are used instead of scanning the
+ * class, and they are invoked through generated code instead of {@link java.lang.reflect.Method#invoke(Object, Object...)}.
+ *
+ * @see ListenerDispatchers
+ */
+public interface ListenerDispatcher {
+
+	/**
+	 * @return the listener class this dispatcher describes.
+	 */
+	Class<? extends EventListener> getListenerClass();
+
+	/**
+	 * Creates the handler methods of the listener class, sorted by priority.
+	 *
+	 * @param listenerClass The listener class the handler methods belong to.
+	 * @return The handler methods of the listener class.
+	 * @throws ReflectiveOperationException If a handler method cannot be resolved.
+	 */
+	HandlerMethod[] createHandlerMethods(ListenerClass<?> listenerClass) throws ReflectiveOperationException;
+
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package dev.utano.eventbus.dispatcher;
+
+/**
+ * Looks up the generated {@link ListenerDispatcher} of listener classes.
+ * <p>
+ * The dispatcher of a listener class is named after it, in the same package: the dispatcher of {@code Outer$Inner}
+ * is {@code Outer_Inner_EventDispatcher}. It is resolved by name from the class loader of the listener class, so
+ * listeners loaded by plugin class loaders are supported, and resolving a listener does not load the dispatchers of
+ * the other listeners. The result of the lookup is cached per class in a {@link ClassValue}, which does not prevent
+ * the class loader from being unloaded.
+ */
+public final class ListenerDispatchers {
+
+	/**
+	 * The suffix of the simple name of the generated dispatchers.
+	 */
+	public static final String SUFFIX = "_EventDispatcher";
+
+	private static final ClassValue<ListenerDispatcher> DISPATCHERS = new ClassValue<ListenerDispatcher>() {
+		@Override
+		protected ListenerDispatcher computeValue(Class<?> listenerClass) {
+			return load(listenerClass);
+		}
+	};
+
+	private ListenerDispatchers() {
+	}
+
+	/**
+	 * Finds the generated dispatcher of the specified listener class.
+	 *
+	 * @param listenerClass The listener class.
+	 * @return The dispatcher of the listener class, or null if none was generated.
+	 */
+	public static ListenerDispatcher find(Class<?> listenerClass) {
+		return DISPATCHERS.get(listenerClass);
+	}
+
+	/**
+	 * @param listenerClass The listener class.
+	 * @return The binary name of the dispatcher generated for the listener class.
+	 */
+	public static String getDispatcherName(Class<?> listenerClass) {
+		String name = listenerClass.getName();
+		int packageEnd = name.lastIndexOf('.') + 1;
+		return name.substring(0, packageEnd) + name.substring(packageEnd).replace('$', '_') + SUFFIX;
+	}
+
+	private static ListenerDispatcher load(Class<?> listenerClass) {
+		ClassLoader classLoader = listenerClass.getClassLoader();
+		if (classLoader == null)
+			return null;
+
+		// A missing or broken dispatcher must not prevent the listener from being scanned reflectively
+		try {
+			Class<?> dispatcherClass = Class.forName(getDispatcherName(listenerClass), true, classLoader);
+			if (!ListenerDispatcher.class.isAssignableFrom(dispatcherClass))
+				return null;
+
+			ListenerDispatcher dispatcher = (ListenerDispatcher) dispatcherClass.getConstructor().newInstance();
+			return dispatcher.getListenerClass() == listenerClass ? dispatcher : null;
+		} catch (ReflectiveOperationException | LinkageError e) {
+			return null;
+		}
+	}
+
+}
@@ -13,6 +13,9 @@ import java.lang.reflect.Field;
  * On the other hand, stopping the event's immediate propagation does not prevent the original action from occurring, but it restricts the triggering of any subsequent event handlers, excluding {@link EventPriority#MONITOR}.
  * <p>
  * When an event is cancelled and its immediate propagation is stopped, no further event handlers (except for {@link EventPriority#MONITOR}) will be invoked, additionally the original action will also be cancelled.
+ * <p>
+ * The state is stored in the fields of {@link Event}, therefore this interface must only be implemented by events.
+ * Once the synchronous handlers of an event have been invoked, asynchronous handlers can only read the state, see {@link Event#seal()}.
  */
 public interface Cancellable {
 
@@ -20,40 +23,31 @@ public interface Cancellable {
 	 * Changes the cancellation status of the event.
 	 *
 	 * @param cancelled If {@code true}, the event will be marked as cancelled. If {@code false}, the event will be marked as not cancelled.
+	 * @throws IllegalStateException if the event has been sealed.
 	 */
 	default void setCancelled(boolean cancelled) {
-		Field field = getCancelledField();
-		try {
-			field.setBoolean(this, cancelled);
-		} catch (IllegalAccessException e) {
-			throw new RuntimeException(e);
-		}
+		Event event = (Event) this;
+		event.checkNotSealed();
+		event.cancelled = cancelled;
 	}
 
 	/**
 	 * @return {@code true} if the event is cancelled, {@code false} otherwise.
 	 */
 	default boolean isCancelled() {
-		Field field = getCancelledField();
-		try {
-			return field.getBoolean(this);
-		} catch (IllegalAccessException e) {
-			throw new RuntimeException(e);
-		}
+		return ((Event) this).cancelled;
 	}
 
 	/**
 	 * Modifies the immediate propagation status of the event.
 	 *
 	 * @param stopImmediatePropagation If {@code true}, stops the immediate propagation of the event. If {@code false}, the event will continue to propagate.
+	 * @throws IllegalStateException if the event has been sealed.
 	 */
 	default void setStopImmediatePropagation(boolean stopImmediatePropagation) {
-		Field field = getStopImmediatePropagationField();
-		try {
-			field.setBoolean(this, stopImmediatePropagation);
-		} catch (IllegalAccessException e) {
-			throw new RuntimeException(e);
-		}
+		Event event = (Event) this;
+		event.checkNotSealed();
+		event.stopImmediatePropagation = stopImmediatePropagation;
 	}
 
 	/**
@@ -72,16 +66,12 @@ public interface Cancellable {
 	 * @return {@code true} if the event is set to stop immediate propagation, {@code false} otherwise.
 	 */
 	default boolean isStopImmediatePropagation() {
-		Field field = getStopImmediatePropagationField();
-		try {
-			return field.getBoolean(this);
-		} catch (IllegalAccessException e) {
-			throw new RuntimeException(e);
-		}
+		return ((Event) this).stopImmediatePropagation;
 	}
 
 	/**
 	 * Retrieves the Field object representing the 'cancelled' field in the Event class.
+	 * The field is no longer used to access the state of the event, it is kept for compatibility only.
 	 *
 	 * @return The Field object representing the 'cancelled' field.
 	 */
@@ -91,6 +81,7 @@ public interface Cancellable {
 
 	/**
 	 * Retrieves the Field object representing the 'stopImmediatePropagation' field in the Event class.
+	 * The field is no longer used to access the state of the event, it is kept for compatibility only.
 	 *
 	 * @return The Field representing the 'stopIMmediatePropagation' field in the Event class.
 	 */
@@ -0,0 +1,18 @@
+package dev.utano.eventbus.event;
+
+/**
+ * Receives the events fired while no handler was listening to them, for diagnostic purposes.
+ *
+ * @see dev.utano.eventbus.EventBus#setDeadEventHandler(DeadEventHandler)
+ */
+@FunctionalInterface
+public interface DeadEventHandler {
+
+	/**
+	 * Called on the firing thread once an event without handlers has been fired.
+	 *
+	 * @param event The unhandled event.
+	 */
+	void handleDeadEvent(Event event);
+
+}
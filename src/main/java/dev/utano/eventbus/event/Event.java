@@ -10,12 +10,22 @@ public class Event {
 
 	/**
 	 * A flag indicating if the event was cancelled.
+	 * Package-private, so that {@link Cancellable} can access it without reflection.
 	 */
-	private boolean cancelled;
+	boolean cancelled;
 	/**
 	 * A flag indicating if the event should stop immediate propagation.
+	 * Package-private, so that {@link Cancellable} can access it without reflection.
 	 */
-	private boolean stopImmediatePropagation;
+	boolean stopImmediatePropagation;
+	/**
+	 * A flag indicating if the cancellation state of the event can no longer be modified.
+	 */
+	private volatile boolean sealed;
+	/**
+	 * A flag indicating if the event has been released to an {@link EventPool}, only tracked in debug mode.
+	 */
+	boolean released;
 
 	/**
 	 * Reflection object for the Event class.
@@ -32,4 +42,57 @@ public class Event {
 		CLASS.getDeclaredField("stopImmediatePropagation").setAccessible(true);
 	}
 
+	/**
+	 * Seals the cancellation state of the event, any further attempt to modify it will fail.
+	 * <p>
+	 * Events are sealed by the {@link dev.utano.eventbus.EventBus} once their synchronous handlers
+	 * have been invoked, before handing them to asynchronous handlers.
+	 */
+	public void seal() {
+		sealed = true;
+	}
+
+	/**
+	 * Lifts the seal of a previous dispatch, called by the {@link dev.utano.eventbus.EventBus} as a synchronous dispatch of the event starts,
+	 * so that the seal only covers the asynchronous handlers.
+	 *
+	 * @throws IllegalStateException if the event has been released to an {@link EventPool} in debug mode.
+	 */
+	public void unseal() throws IllegalStateException {
+		if (released)
+			throw new IllegalStateException("The event " + getClass().getName() + " has been released to its pool and can no longer be fired.");
+		sealed = false;
+	}
+
+	/**
+	 * @return {@code true} if the cancellation state of the event can no longer be modified, {@code false} otherwise.
+	 */
+	public boolean isSealed() {
+		return sealed;
+	}
+
+	/**
+	 * Called by {@link EventPool} as the event is released, before its cancellation state is reset.
+	 * Pooled events holding state of their own should override this method to clear it.
+	 */
+	protected void onRelease() {
+	}
+
+	/**
+	 * Clears the cancellation state and the seal, called by {@link EventPool} so that the event can be fired again.
+	 */
+	void resetEventState() {
+		cancelled = false;
+		stopImmediatePropagation = false;
+		sealed = false;
+	}
+
+	/**
+	 * @throws IllegalStateException if the event has been sealed.
+	 */
+	void checkNotSealed() throws IllegalStateException {
+		if (sealed)
+			throw new IllegalStateException("The cancellation state of " + getClass().getName() + " can no longer be modified, the event has been sealed.");
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+package dev.utano.eventbus.event;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * A pool of reusable events, so that firing events does not allocate.
+ * <p>
+ * Events are {@link #acquire() acquired}, filled, fired and then {@link #release(Event) released}, which
+ * resets their cancellation state after calling their {@link Event#onRelease()} hook. Every thread has its own free list, so acquiring and releasing never contend.
+ * Events released by a different thread than the one which acquired them join the free list of the releasing thread.
+ * <p>
+ * Released events may be handed out again right away, handlers must therefore not keep references to pooled events,
+ * and pooled events must not be released before their asynchronous handlers have completed.
+ * In debug mode, enabled through the {@value #DEBUG_PROPERTY} system property, released events are sealed so that
+ * modifying their cancellation state or firing them again fails, and releasing an event twice fails. The guard does not
+ * cover reading a released event, nor modifying the fields of its own class.
+ *
+ * @param <T> The type of the pooled events.
+ */
+public class EventPool<T extends Event> {
+
+	/**
+	 * The system property enabling the debug mode of the pools created without specifying it.
+	 */
+	public static final String DEBUG_PROPERTY = "dev.utano.eventbus.pool.debug";
+
+	/**
+	 * The default maximum number of events kept by the free list of each thread.
+	 */
+	public static final int DEFAULT_CAPACITY = 64;
+
+	private final Supplier<? extends T> factory;
+	private final int capacity;
+	private final boolean debug;
+	private final ThreadLocal<ArrayDeque<T>> freeLists;
+
+	/**
+	 * Creates a pool with the {@link #DEFAULT_CAPACITY default capacity}, in debug mode if the {@value #DEBUG_PROPERTY} system property is set.
+	 *
+	 * @param factory The factory of the events, called whenever the free list of the acquiring thread is empty.
+	 */
+	public EventPool(Supplier<? extends T> factory) {
+		this(factory, DEFAULT_CAPACITY, Boolean.getBoolean(DEBUG_PROPERTY));
+	}
+
+	/**
+	 * @param factory  The factory of the events, called whenever the free list of the acquiring thread is empty.
+	 * @param capacity The maximum number of events kept by the free list of each thread, further released events are dropped.
+	 * @param debug    Whether to guard against the misuse of released events.
+	 */
+	public EventPool(Supplier<? extends T> factory, int capacity, boolean debug) {
+		this.factory = factory;
+		this.capacity = capacity;
+		this.debug = debug;
+		this.freeLists = ThreadLocal.withInitial(() -> new ArrayDeque<>(capacity));
+	}
+
+	/**
+	 * Takes an event from the free list of the current thread, creating a new one if the list is empty.
+	 *
+	 * @return An event in its initial state.
+	 */
+	public T acquire() {
+		T event = freeLists.get().pollFirst();
+		if (event == null)
+			return factory.get();
+
+		if (debug) {
+			event.released = false;
+			event.resetEventState();
+		}
+		return event;
+	}
+
+	/**
+	 * Resets the event and returns it to the free list of the current thread.
+	 *
+	 * @param event The event to release, it must no longer be used by the caller.
+	 * @throws IllegalStateException if the pool is in debug mode and the event has already been released.
+	 */
+	public void release(T event) throws IllegalStateException {
+		if (debug && event.released)
+			throw new IllegalStateException("The event " + event.getClass().getName() + " has already been released.");
+
+		event.onRelease();
+		event.resetEventState();
+		ArrayDeque<T> freeList = freeLists.get();
+		if (freeList.size() < capacity)
+			freeList.addFirst(event);
+
+		if (debug) {
+			// Sealing, so that modifying or firing the event after its release fails instead of corrupting the next firing
+			event.released = true;
+			event.seal();
+		}
+	}
+
+	/**
+	 * @return whether this pool guards against the misuse of released events.
+	 */
+	public boolean isDebug() {
+		return debug;
+	}
+
+}
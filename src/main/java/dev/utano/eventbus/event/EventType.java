@@ -0,0 +1,82 @@
+package dev.utano.eventbus.event;
+
+import lombok.Getter;
+
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The resolved type hierarchy of an event class.
+ * <p>
+ * Every class and interface gets a small integer id the first time it is resolved, and every event type
+ * stores the ids of all its supertypes, superclasses and interfaces alike, in a flat {@link BitSet}.
+ * Checking whether an event type is a subtype of another is therefore a single bit lookup instead of a walk
+ * of the class hierarchy. Types are cached in a {@link ClassValue}, so they are released along with their class loader.
+ */
+public final class EventType {
+
+	private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+	private static final ClassValue<EventType> CACHE = new ClassValue<EventType>() {
+		@Override
+		protected EventType computeValue(Class<?> type) {
+			return new EventType(type);
+		}
+	};
+
+	/**
+	 * The type of {@link Cancellable} events.
+	 */
+	public static final EventType CANCELLABLE = of(Cancellable.class);
+
+	@Getter
+	private final Class<?> clasz;
+	@Getter
+	private final int id;
+	private final BitSet supertypes = new BitSet();
+
+	private EventType(Class<?> clasz) {
+		this.clasz = clasz;
+		this.id = NEXT_ID.getAndIncrement();
+
+		supertypes.set(id);
+		if (clasz.getSuperclass() != null)
+			supertypes.or(of(clasz.getSuperclass()).supertypes);
+		for (Class<?> interfaceClass : clasz.getInterfaces())
+			supertypes.or(of(interfaceClass).supertypes);
+	}
+
+	/**
+	 * Retrieves the shared, resolved type of the specified class.
+	 *
+	 * @param clasz The class, usually an event class.
+	 * @return The type of the class.
+	 */
+	public static EventType of(Class<?> clasz) {
+		return CACHE.get(clasz);
+	}
+
+	/**
+	 * @param type The possible supertype.
+	 * @return {@code true} if this type is the specified type or one of its subtypes, {@code false} otherwise.
+	 */
+	public boolean isSubtypeOf(EventType type) {
+		return supertypes.get(type.id);
+	}
+
+	/**
+	 * @param typeIds The ids of the possible supertypes.
+	 * @return {@code true} if this type is one of the specified types or one of their subtypes, {@code false} otherwise.
+	 */
+	public boolean isSubtypeOfAny(BitSet typeIds) {
+		return supertypes.intersects(typeIds);
+	}
+
+	/**
+	 * @return {@code true} if this type implements {@link Cancellable}, {@code false} otherwise.
+	 */
+	public boolean isCancellable() {
+		return isSubtypeOf(CANCELLABLE);
+	}
+
+}
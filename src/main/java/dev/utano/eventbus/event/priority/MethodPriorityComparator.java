@@ -4,6 +4,9 @@ import dev.utano.eventbus.HandlerMethod;
 
 import java.util.Comparator;
 
+/**
+ * Orders handler methods by {@link EventPriority}, then by {@link dev.utano.eventbus.annotation.EventHandler#order() order}.
+ */
 public class MethodPriorityComparator implements Comparator<HandlerMethod> {
 
 	@Override
@@ -11,7 +14,8 @@ public class MethodPriorityComparator implements Comparator<HandlerMethod> {
 		EventPriority p1 = m1.getPriority();
 		EventPriority p2 = m2.getPriority();
 
-		return p1.compareTo(p2);
+		int priorityComparison = p1.compareTo(p2);
+		return priorityComparison != 0 ? priorityComparison : Integer.compare(m1.getOrder(), m2.getOrder());
 	}
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,53 @@
+package dev.utano.eventbus.exception;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the exceptions thrown by handlers without interrupting the dispatch of events,
+ * so that they can be reported at once, for instance at the end of a tick.
+ *
+ * @see SubscriberExceptionHandlers#collect()
+ */
+public class CollectingExceptionHandler implements SubscriberExceptionHandler {
+
+	private final List<RuntimeException> failures = new ArrayList<>();
+
+	@Override
+	public void handleException(Throwable exception, SubscriberExceptionContext context) {
+		RuntimeException failure = new RuntimeException(context.describe(), exception);
+		synchronized (failures) {
+			failures.add(failure);
+		}
+	}
+
+	/**
+	 * Removes all the collected exceptions.
+	 *
+	 * @return The collected exceptions, each one wrapping the exception thrown by a handler, in order of occurrence.
+	 */
+	public List<RuntimeException> drain() {
+		synchronized (failures) {
+			List<RuntimeException> drained = new ArrayList<>(failures);
+			failures.clear();
+			return drained;
+		}
+	}
+
+	/**
+	 * Removes all the collected exceptions and throws them, if any.
+	 *
+	 * @throws RuntimeException The first collected exception, the other ones being {@link Throwable#addSuppressed(Throwable) suppressed}.
+	 */
+	public void report() throws RuntimeException {
+		List<RuntimeException> drained = drain();
+		if (drained.isEmpty())
+			return;
+
+		RuntimeException first = drained.get(0);
+		for (int i = 1; i < drained.size(); i++)
+			first.addSuppressed(drained.get(i));
+		throw first;
+	}
+
+}
@@ -0,0 +1,34 @@
+package dev.utano.eventbus.exception;
+
+import dev.utano.eventbus.EventBus;
+import dev.utano.eventbus.HandlerMethod;
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.listener.EventListener;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import top.wavelength.betterreflection.dumper.implementation.MethodDumper;
+
+/**
+ * Describes the handler which threw an exception and the event it was invoked with.
+ * Contexts are only created once a handler has failed, so dispatching events which are handled successfully costs nothing.
+ */
+@Getter
+@AllArgsConstructor
+public class SubscriberExceptionContext {
+
+	private final EventBus eventBus;
+	private final Event event;
+	private final EventListener eventListener;
+	private final HandlerMethod handlerMethod;
+
+	/**
+	 * Describes the failed handler method and the event, the description is built on every call.
+	 *
+	 * @return The description of the failure.
+	 */
+	public String describe() {
+		return "An exception has occurred executing the method " + new MethodDumper().dump(handlerMethod.getMethod()) +
+				"\nEvent: " + event.getClass().getName();
+	}
+
+}
@@ -0,0 +1,26 @@
+package dev.utano.eventbus.exception;
+
+/**
+ * Decides what happens when an {@link dev.utano.eventbus.annotation.EventHandler} throws an exception.
+ * <p>
+ * Every handler invocation is isolated: once the exception has been handled, the event is dispatched to the
+ * remaining handlers, unless this method throws in turn, in which case the dispatch is aborted and the exception
+ * is propagated to the caller firing the event (or to the future of {@link dev.utano.eventbus.EventBus#fireEventAsync}).
+ * <p>
+ * Implementations are called from the threads dispatching events and must be thread-safe.
+ *
+ * @see SubscriberExceptionHandlers
+ */
+@FunctionalInterface
+public interface SubscriberExceptionHandler {
+
+	/**
+	 * Handles an exception thrown by a handler. Errors thrown by handlers, such as failed assertions, are handled as well,
+	 * as they used to be wrapped by reflective invocations.
+	 *
+	 * @param exception The exception or the error thrown by the handler.
+	 * @param context   The handler and the event which was being dispatched.
+	 */
+	void handleException(Throwable exception, SubscriberExceptionContext context);
+
+}
@@ -0,0 +1,58 @@
+package dev.utano.eventbus.exception;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Provides the built-in {@link SubscriberExceptionHandler} policies.
+ */
+public final class SubscriberExceptionHandlers {
+
+	private static final SubscriberExceptionHandler RETHROW = (exception, context) -> {
+		throw new RuntimeException(context.describe(), exception);
+	};
+
+	private SubscriberExceptionHandlers() {
+	}
+
+	/**
+	 * The default policy: wraps the exception in a {@link RuntimeException} describing the handler and the event,
+	 * aborting the dispatch of the event.
+	 *
+	 * @return The rethrowing policy.
+	 */
+	public static SubscriberExceptionHandler rethrow() {
+		return RETHROW;
+	}
+
+	/**
+	 * Logs the exception at {@link Level#SEVERE} and keeps dispatching the event to the remaining handlers.
+	 *
+	 * @param logger The logger to log the exceptions to.
+	 * @return The logging policy.
+	 */
+	public static SubscriberExceptionHandler logAndContinue(Logger logger) {
+		return (exception, context) -> logger.log(Level.SEVERE, exception, context::describe);
+	}
+
+	/**
+	 * Logs the exception to the logger of the EventBus and keeps dispatching the event to the remaining handlers.
+	 *
+	 * @return The logging policy.
+	 * @see #logAndContinue(Logger)
+	 */
+	public static SubscriberExceptionHandler logAndContinue() {
+		return logAndContinue(Logger.getLogger(dev.utano.eventbus.EventBus.class.getName()));
+	}
+
+	/**
+	 * Collects the exceptions and keeps dispatching the event to the remaining handlers,
+	 * the collected exceptions are reported through {@link CollectingExceptionHandler#report()}.
+	 *
+	 * @return A new collecting policy.
+	 */
+	public static CollectingExceptionHandler collect() {
+		return new CollectingExceptionHandler();
+	}
+
+}
@@ -0,0 +1,25 @@
+package dev.utano.eventbus.filter;
+
+import dev.utano.eventbus.event.Event;
+
+/**
+ * A predicate deciding whether a handler has to be invoked for an event, evaluated right before the invocation.
+ * <p>
+ * Filters are attached to a handler method through {@link dev.utano.eventbus.annotation.EventHandler#filter()},
+ * or to all the handlers of a listener as it is registered through
+ * {@link dev.utano.eventbus.EventBus#registerFiltered(dev.utano.eventbus.listener.EventListener, EventFilter)}.
+ * Filtering on the key of a {@link KeyedEvent}, such as a world or an entity id, is better done by registering the
+ * listener with that key, as keyed handlers are indexed rather than tested one by one.
+ *
+ * @param <T> The type of the filtered events.
+ */
+@FunctionalInterface
+public interface EventFilter<T extends Event> {
+
+	/**
+	 * @param event The event about to be passed to the handler.
+	 * @return {@code true} if the handler has to be invoked, {@code false} to skip it.
+	 */
+	boolean test(T event);
+
+}
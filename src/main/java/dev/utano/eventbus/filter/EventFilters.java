@@ -0,0 +1,55 @@
+package dev.utano.eventbus.filter;
+
+import dev.utano.eventbus.event.Event;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * Utility methods to create and combine {@link EventFilter}s.
+ */
+public final class EventFilters {
+
+	private EventFilters() {
+	}
+
+	/**
+	 * Instantiates the filter class of an {@link dev.utano.eventbus.annotation.EventHandler} through its no-argument constructor.
+	 *
+	 * @param filterClass The filter class, {@link EventFilter} itself meaning no filter.
+	 * @return The filter, null if no filter has been specified.
+	 * @throws IllegalArgumentException if the filter class cannot be instantiated.
+	 */
+	@SuppressWarnings("rawtypes")
+	public static EventFilter<?> create(Class<? extends EventFilter> filterClass) throws IllegalArgumentException {
+		if (filterClass == EventFilter.class)
+			return null;
+
+		try {
+			Constructor<? extends EventFilter> constructor = filterClass.getDeclaredConstructor();
+			constructor.setAccessible(true);
+			return constructor.newInstance();
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			throw new IllegalArgumentException("The filter " + filterClass.getName() + " must have a no-argument constructor.", e);
+		}
+	}
+
+	/**
+	 * Combines two filters, either of which may be absent.
+	 *
+	 * @param first  The filter evaluated first, may be null.
+	 * @param second The filter evaluated if the first one passes, may be null.
+	 * @return A filter passing if both pass, null if both are null.
+	 */
+	@SuppressWarnings("unchecked")
+	public static EventFilter<Event> and(EventFilter<?> first, EventFilter<?> second) {
+		if (first == null)
+			return (EventFilter<Event>) second;
+		if (second == null)
+			return (EventFilter<Event>) first;
+
+		EventFilter<Event> firstFilter = (EventFilter<Event>) first;
+		EventFilter<Event> secondFilter = (EventFilter<Event>) second;
+		return event -> firstFilter.test(event) && secondFilter.test(event);
+	}
+
+}
@@ -0,0 +1,18 @@
+package dev.utano.eventbus.filter;
+
+/**
+ * An event scoped to a key, such as the world or the entity it happened in.
+ * <p>
+ * Listeners registered through {@link dev.utano.eventbus.EventBus#registerKeyed(dev.utano.eventbus.listener.EventListener, Object)}
+ * only receive the keyed events whose key equals theirs. The handlers of each key are indexed by the handler chain of the event
+ * class, so firing a keyed event only walks the handlers of its key and the handlers registered without a key.
+ * Events which are not keyed are delivered to keyed listeners as usual.
+ */
+public interface KeyedEvent {
+
+	/**
+	 * @return the key of the event, compared through {@link Object#equals(Object)}, null to deliver it to every listener.
+	 */
+	Object getEventKey();
+
+}
@@ -0,0 +1,27 @@
+package dev.utano.eventbus.invoker;
+
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.listener.EventListener;
+
+/**
+ * Invokes an {@link dev.utano.eventbus.annotation.EventHandler} method on a listener.
+ * <p>
+ * Invokers are created once per handler method by {@link HandlerInvokers#create(java.lang.reflect.Method)}.
+ * Whenever possible they call the handler method directly, so the JIT can inline the call
+ * just like any other method call.
+ *
+ * @see HandlerInvokers
+ */
+@FunctionalInterface
+public interface HandlerInvoker {
+
+	/**
+	 * Invokes the handler method.
+	 *
+	 * @param listener The listener to invoke the handler method on.
+	 * @param event    The event to pass to the handler method.
+	 * @throws Exception If the handler method throws an exception.
+	 */
+	void invoke(EventListener listener, Event event) throws Exception;
+
+}
\ No newline at end of file
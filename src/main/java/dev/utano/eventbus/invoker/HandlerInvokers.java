@@ -0,0 +1,113 @@
+package dev.utano.eventbus.invoker;
+
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.listener.EventListener;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Creates the {@link HandlerInvoker} of handler methods.
+ * <p>
+ * Public instance methods of public classes visible from the EventBus get an invoker spun by {@link LambdaMetafactory},
+ * which calls the handler method directly. Methods of classes loaded by another class loader, or not public,
+ * get a {@link MethodHandleHandlerInvoker}. Methods which cannot be accessed at all fall back to a {@link ReflectiveHandlerInvoker},
+ * which is logged at the {@link Level#FINE} level.
+ */
+public final class HandlerInvokers {
+
+	private static final String INVOKE_METHOD_NAME = "invoke";
+	private static final MethodType FACTORY_TYPE = MethodType.methodType(HandlerInvoker.class);
+	private static final MethodType INVOKE_TYPE = MethodType.methodType(void.class, EventListener.class, Event.class);
+	private static final Logger LOGGER = Logger.getLogger(HandlerInvokers.class.getName());
+
+	private HandlerInvokers() {
+	}
+
+	/**
+	 * Creates the invoker of the specified handler method.
+	 *
+	 * @param method The handler method, accepting a single {@link Event} parameter.
+	 * @return A generated invoker if the method can be called directly, a {@link MethodHandleHandlerInvoker} if it can be accessed,
+	 * a {@link ReflectiveHandlerInvoker} otherwise.
+	 */
+	public static HandlerInvoker create(Method method) {
+		if (canGenerate(method)) {
+			try {
+				return generate(method);
+			} catch (LambdaConversionException | IllegalAccessException | LinkageError e) {
+				LOGGER.log(Level.FINE, "Could not generate the invoker of " + method + ", falling back to a method handle", e);
+			}
+		}
+
+		try {
+			if (!isPublic(method.getDeclaringClass()))
+				method.setAccessible(true);
+			return new MethodHandleHandlerInvoker(method);
+		} catch (IllegalAccessException | RuntimeException e) {
+			// SecurityException, or from Java 9 InaccessibleObjectException for packages their module does not open
+			LOGGER.log(Level.FINE, "Could not access " + method + ", falling back to reflection", e);
+		}
+		return new ReflectiveHandlerInvoker(method);
+	}
+
+	/**
+	 * Checks whether a direct invoker can be generated for the specified method.
+	 * <p>
+	 * The generated invoker is defined alongside this class, therefore both the listener class and the
+	 * event class must be public and visible from the EventBus' class loader.
+	 *
+	 * @param method The handler method.
+	 * @return {@code true} if a direct invoker can be generated, {@code false} otherwise.
+	 */
+	public static boolean canGenerate(Method method) {
+		if (Modifier.isStatic(method.getModifiers()) || !Modifier.isPublic(method.getModifiers()))
+			return false;
+		return isAccessible(method.getDeclaringClass()) && isAccessible(method.getParameterTypes()[0]);
+	}
+
+	private static HandlerInvoker generate(Method method) throws LambdaConversionException, IllegalAccessException {
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		MethodHandle target = lookup.unreflect(method);
+		MethodType instantiatedType = MethodType.methodType(void.class, method.getDeclaringClass(), method.getParameterTypes()[0]);
+
+		CallSite callSite = LambdaMetafactory.metafactory(lookup, INVOKE_METHOD_NAME, FACTORY_TYPE, INVOKE_TYPE, target, instantiatedType);
+		try {
+			return (HandlerInvoker) callSite.getTarget().invoke();
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			// The factory of a non-capturing lambda does not throw checked exceptions
+			throw new UndeclaredThrowableException(e);
+		}
+	}
+
+	private static boolean isPublic(Class<?> clasz) {
+		for (Class<?> current = clasz; current != null; current = current.getEnclosingClass()) {
+			if (!Modifier.isPublic(current.getModifiers()))
+				return false;
+		}
+		return true;
+	}
+
+	private static boolean isAccessible(Class<?> clasz) {
+		if (!isPublic(clasz))
+			return false;
+
+		try {
+			return Class.forName(clasz.getName(), false, HandlerInvokers.class.getClassLoader()) == clasz;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+package dev.utano.eventbus.invoker;
+
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.listener.EventListener;
+import lombok.Getter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * Invokes a handler method through a {@link MethodHandle} adapted to {@code (EventListener, Event)void}.
+ * <p>
+ * Used for handler methods of listeners loaded by another class loader, such as the one of a plugin,
+ * which a {@link java.lang.invoke.LambdaMetafactory} invoker defined alongside the EventBus cannot link to.
+ * {@link MethodHandle#invokeExact(Object...)} skips the argument boxing and access checks of {@link Method#invoke(Object, Object...)}.
+ */
+public class MethodHandleHandlerInvoker implements HandlerInvoker {
+
+	private static final MethodType INVOKE_TYPE = MethodType.methodType(void.class, EventListener.class, Event.class);
+
+	@Getter
+	private final Method method;
+	private final MethodHandle handle;
+
+	/**
+	 * @param method The handler method, made accessible if its class is not public.
+	 * @throws IllegalAccessException If the method cannot be accessed.
+	 */
+	public MethodHandleHandlerInvoker(Method method) throws IllegalAccessException {
+		this.method = method;
+		MethodHandle target = MethodHandles.publicLookup().unreflect(method);
+		if (Modifier.isStatic(method.getModifiers()))
+			target = MethodHandles.dropArguments(target, 0, EventListener.class);
+		this.handle = target.asType(INVOKE_TYPE);
+	}
+
+	@Override
+	public void invoke(EventListener listener, Event event) throws Exception {
+		try {
+			handle.invokeExact(listener, event);
+		} catch (Exception | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new UndeclaredThrowableException(e);
+		}
+	}
+
+}
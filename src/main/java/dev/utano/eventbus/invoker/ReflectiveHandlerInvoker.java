@@ -0,0 +1,38 @@
+package dev.utano.eventbus.invoker;
+
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.listener.EventListener;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Invokes a handler method through {@link Method#invoke(Object, Object...)}.
+ * <p>
+ * Used as fallback for handler methods a direct invoker cannot be generated for,
+ * such as static methods or methods of classes that are not accessible from the EventBus.
+ */
+@Getter
+@AllArgsConstructor
+public class ReflectiveHandlerInvoker implements HandlerInvoker {
+
+	private final Method method;
+
+	@Override
+	public void invoke(EventListener listener, Event event) throws Exception {
+		try {
+			method.invoke(listener, event);
+		} catch (InvocationTargetException e) {
+			// Unwrapping, so that both invokers report the exception thrown by the handler itself
+			Throwable cause = e.getCause();
+			if (cause instanceof Exception)
+				throw (Exception) cause;
+			if (cause instanceof Error)
+				throw (Error) cause;
+			throw e;
+		}
+	}
+
+}
\ No newline at end of file
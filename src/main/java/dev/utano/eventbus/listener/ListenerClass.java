@@ -7,24 +7,59 @@ import top.wavelength.betterreflection.BetterReflectionClass;
 /**
  * Responsible for caching {@link dev.utano.eventbus.annotation.EventHandler} methods within a class.
  * Separates them between regular and cancellable events for performance reasons.
+ * <p>
+ * Listener classes are immutable once scanned, therefore {@link #of(Class)} shares a single instance
+ * between all the listeners of the same class. The shared instances are cached in a {@link ClassValue},
+ * so they are released along with the class loader of the listener class.
  *
  * @param <T> the class type which extends {@link EventListener}
  */
 @Getter
 public class ListenerClass<T extends EventListener> extends BetterReflectionClass<T> {
 
+	private static final ClassValue<ListenerClass<?>> CACHE = new ClassValue<ListenerClass<?>>() {
+		@Override
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		protected ListenerClass<?> computeValue(Class<?> type) {
+			return new ListenerClass(type.asSubclass(EventListener.class));
+		}
+	};
+
 	private final Handlers regularHandlers;
 	private final Handlers cancellableHandlers;
 
+	/**
+	 * Retrieves the shared, scanned instance of the specified listener class.
+	 *
+	 * @param listenerClass The class of the listener.
+	 * @param <T>           The type of the listener.
+	 * @return The shared ListenerClass of the listener class.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends EventListener> ListenerClass<T> of(Class<T> listenerClass) {
+		return (ListenerClass<T>) CACHE.get(listenerClass);
+	}
+
 	/**
 	 * Initialize a new instance of ListenerClass with event listener.
+	 * Prefer {@link #of(Class)}, which avoids scanning the same class more than once.
 	 *
 	 * @param listener event listener
 	 * @throws ClassCastException if listener type does not extend {@link EventListener}
 	 */
 	@SuppressWarnings("unchecked")
 	public ListenerClass(T listener) {
-		super((Class<T>) listener.getClass());
+		this((Class<T>) listener.getClass());
+	}
+
+	/**
+	 * Initialize a new instance of ListenerClass, scanning the specified class.
+	 * Prefer {@link #of(Class)}, which avoids scanning the same class more than once.
+	 *
+	 * @param listenerClass The class of the listener.
+	 */
+	public ListenerClass(Class<T> listenerClass) {
+		super(listenerClass);
 		regularHandlers = new Handlers(this, false);
 		cancellableHandlers = new Handlers(this, true);
 
@@ -36,4 +71,11 @@ public class ListenerClass<T extends EventListener> extends BetterReflectionClas
 		return cancellable ? cancellableHandlers : regularHandlers;
 	}
 
+	/**
+	 * @return whether any handler of this class is {@link dev.utano.eventbus.annotation.EventHandler#sticky() sticky}.
+	 */
+	public boolean hasStickyHandlers() {
+		return regularHandlers.isStickyHandlers() || cancellableHandlers.isStickyHandlers();
+	}
+
 }
\ No newline at end of file
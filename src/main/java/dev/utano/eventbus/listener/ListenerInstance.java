@@ -1,18 +1,136 @@
 package dev.utano.eventbus.listener;
 
-import lombok.AllArgsConstructor;
+import dev.utano.eventbus.HandlerMethod;
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.filter.EventFilter;
+import dev.utano.eventbus.filter.KeyedEvent;
 import lombok.Getter;
 
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
 /**
  * The ListenerInstance class represents an instance of an event listener along with its corresponding listener class.
  * It is used to store and manage the association between an event listener and its listener class.
+ * <p>
+ * Weak instances only hold a {@link WeakReference} to their listener, so that registering a listener does not
+ * prevent it from being garbage collected. Once collected, the instance is skipped by the dispatch and purged
+ * from the EventBus the next time its listeners are modified.
+ * <p>
+ * Instances unregistered through a {@link dev.utano.eventbus.Registration} are marked as removed, which makes them
+ * skipped by the dispatch right away, and are purged from the EventBus in bulk later on.
+ * <p>
+ * An instance may carry a filter, evaluated before each invocation of its handlers, and a key restricting the
+ * {@link KeyedEvent}s it receives to the ones with the same key.
  *
  * @see EventListener
  * @see ListenerClass
  */
-@Getter
-@AllArgsConstructor
 public class ListenerInstance {
+
 	private final EventListener eventListener;
+	private final WeakReference<EventListener> reference;
+	@Getter
 	private final ListenerClass<?> listenerClass;
-}
\ No newline at end of file
+	/**
+	 * The filter of all the handlers of the listener, null if none.
+	 */
+	@Getter
+	private final EventFilter<Event> filter;
+	/**
+	 * The key of the {@link KeyedEvent}s the listener receives, null to receive all of them.
+	 */
+	@Getter
+	private final Object key;
+	@Getter
+	private volatile boolean removed;
+
+	/**
+	 * Creates a strong instance of the specified listener.
+	 *
+	 * @param eventListener The listener.
+	 * @param listenerClass The class of the listener.
+	 */
+	public ListenerInstance(EventListener eventListener, ListenerClass<?> listenerClass) {
+		this(eventListener, listenerClass, null, null, null);
+	}
+
+	/**
+	 * Creates a weak instance of the specified listener.
+	 *
+	 * @param eventListener The listener.
+	 * @param listenerClass The class of the listener.
+	 * @param queue         The queue the reference to the listener is enqueued in once the listener has been collected.
+	 */
+	public ListenerInstance(EventListener eventListener, ListenerClass<?> listenerClass, ReferenceQueue<? super EventListener> queue) {
+		this(eventListener, listenerClass, queue, null, null);
+	}
+
+	/**
+	 * Creates an instance of the specified listener, weak if a reference queue is given.
+	 *
+	 * @param eventListener The listener.
+	 * @param listenerClass The class of the listener.
+	 * @param queue         The queue the reference to the listener is enqueued in once collected, null for a strong instance.
+	 * @param filter        The filter of all the handlers of the listener, null if none.
+	 * @param key           The key of the {@link KeyedEvent}s the listener receives, null to receive all of them.
+	 */
+	public ListenerInstance(EventListener eventListener, ListenerClass<?> listenerClass, ReferenceQueue<? super EventListener> queue, EventFilter<Event> filter, Object key) {
+		this.eventListener = queue == null ? eventListener : null;
+		this.reference = queue == null ? null : new WeakReference<>(eventListener, queue);
+		this.listenerClass = listenerClass;
+		this.filter = filter;
+		this.key = key;
+	}
+
+	/**
+	 * @param cancellable Whether the handlers of cancellable events are requested, rather than the ones of regular events.
+	 * @return the handler methods of the listener, sorted by priority.
+	 */
+	public HandlerMethod[] getHandlerMethods(boolean cancellable) {
+		return listenerClass.getHandlers(cancellable).getHandlerMethods();
+	}
+
+	/**
+	 * @return the listener, null if this instance has been removed, or if it is weak and the listener has been garbage collected.
+	 */
+	public EventListener getEventListener() {
+		if (removed)
+			return null;
+		return eventListener != null ? eventListener : reference.get();
+	}
+
+	/**
+	 * @return the class loader the listener belongs to, the one of its listener class by default.
+	 */
+	public ClassLoader getClassLoader() {
+		return listenerClass.getClasz().getClassLoader();
+	}
+
+	/**
+	 * Marks this instance as removed, called by the EventBus while holding its registration lock.
+	 *
+	 * @return {@code true} if the instance has been marked, {@code false} if it had been removed already.
+	 */
+	public boolean markRemoved() {
+		if (removed)
+			return false;
+		removed = true;
+		return true;
+	}
+
+	/**
+	 * @return whether this instance only holds a weak reference to its listener.
+	 */
+	public boolean isWeak() {
+		return reference != null;
+	}
+
+	/**
+	 * @return whether the listener of this weak instance has been garbage collected.
+	 */
+	public boolean isCollected() {
+		return reference != null && reference.get() == null;
+	}
+
+}
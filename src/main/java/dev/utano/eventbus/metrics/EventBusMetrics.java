@@ -0,0 +1,77 @@
+package dev.utano.eventbus.metrics;
+
+import dev.utano.eventbus.HandlerMethod;
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.invoker.HandlerInvoker;
+
+/**
+ * Receives the dispatch metrics of an {@link dev.utano.eventbus.EventBus}.
+ * <p>
+ * Metrics are disabled by default. Once enabled through {@link dev.utano.eventbus.EventBus#setMetrics(EventBusMetrics)},
+ * the invoker of every handler is wrapped in a {@link MeteredHandlerInvoker} reporting to the {@link HandlerMetrics}
+ * returned by {@link #forHandler(HandlerMethod, Class)}. When disabled, invokers are not wrapped at all.
+ * Implementations recording spans themselves, such as profilers, may wrap the invokers differently through
+ * {@link #wrap(HandlerInvoker, HandlerMethod, Class)} and bracket dispatches through {@link #dispatchStarted(Event)}.
+ * <p>
+ * Implementations are called from the threads firing events and must be thread-safe.
+ *
+ * @see JmxEventBusMetrics
+ */
+public interface EventBusMetrics {
+
+	/**
+	 * Called once an event has been dispatched to its synchronous handlers.
+	 * Events fired as a batch report the duration of their run of events divided by the number of events of the run.
+	 *
+	 * @param event         The dispatched event, its cancellation state reflects the outcome of the dispatch.
+	 * @param handlerCount  The number of handlers of the event's class, both synchronous and asynchronous.
+	 * @param durationNanos The time spent dispatching the event to its synchronous handlers.
+	 */
+	void eventDispatched(Event event, int handlerCount, long durationNanos);
+
+	/**
+	 * Creates the recorder of a handler, called once whenever the handler chain of an event class is built.
+	 *
+	 * @param handlerMethod The handler method.
+	 * @param eventClass    The concrete class of the events the handler will receive.
+	 * @return The recorder of the handler's invocations.
+	 */
+	HandlerMetrics forHandler(HandlerMethod handlerMethod, Class<? extends Event> eventClass);
+
+	/**
+	 * Wraps the invoker of a handler, called once whenever the handler chain of an event class is built.
+	 *
+	 * @param invoker       The invoker of the handler method.
+	 * @param handlerMethod The handler method.
+	 * @param eventClass    The concrete class of the events the handler will receive.
+	 * @return The invoker reporting to these metrics, a {@link MeteredHandlerInvoker} by default.
+	 */
+	default HandlerInvoker wrap(HandlerInvoker invoker, HandlerMethod handlerMethod, Class<? extends Event> eventClass) {
+		return new MeteredHandlerInvoker(invoker, forHandler(handlerMethod, eventClass));
+	}
+
+	/**
+	 * Called right before an event is dispatched to its synchronous handlers.
+	 * The events of a batch are all announced before their run of events of the same class is dispatched.
+	 *
+	 * @param event The event about to be dispatched.
+	 * @return A probe passed back to {@link #eventDispatched(Event, int, long, Object)}, null by default.
+	 */
+	default Object dispatchStarted(Event event) {
+		return null;
+	}
+
+	/**
+	 * Called once an event whose dispatch was announced through {@link #dispatchStarted(Event)} has been dispatched
+	 * to its synchronous handlers. Delegates to {@link #eventDispatched(Event, int, long)} by default.
+	 *
+	 * @param event         The dispatched event, its cancellation state reflects the outcome of the dispatch.
+	 * @param handlerCount  The number of handlers of the event's class, both synchronous and asynchronous.
+	 * @param durationNanos The time spent dispatching the event to its synchronous handlers.
+	 * @param probe         The probe returned by {@link #dispatchStarted(Event)}.
+	 */
+	default void eventDispatched(Event event, int handlerCount, long durationNanos, Object probe) {
+		eventDispatched(event, handlerCount, durationNanos);
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+package dev.utano.eventbus.metrics;
+
+import java.util.Map;
+
+/**
+ * The JMX management interface of {@link JmxEventBusMetrics}.
+ * Events are keyed by their class name, handlers by {@code HandlerClass#method(EventClass)}, with fully qualified class names.
+ */
+public interface EventBusMetricsMXBean {
+
+	/**
+	 * @return the number of times each event class has been fired.
+	 */
+	Map<String, Long> getEventFireCounts();
+
+	/**
+	 * @return the ratio of fired events which ended up cancelled, per cancellable event class.
+	 */
+	Map<String, Double> getEventCancellationRates();
+
+	/**
+	 * @return the 99th percentile of the time spent dispatching each event class, in nanoseconds.
+	 */
+	Map<String, Long> getEventDispatchP99Nanos();
+
+	/**
+	 * @return the number of invocations of each handler.
+	 */
+	Map<String, Long> getHandlerInvocationCounts();
+
+	/**
+	 * @return the number of invocations of each handler which threw an exception.
+	 */
+	Map<String, Long> getHandlerFailureCounts();
+
+	/**
+	 * @return the median latency of each handler, in nanoseconds.
+	 */
+	Map<String, Long> getHandlerLatencyP50Nanos();
+
+	/**
+	 * @return the 99th percentile of the latency of each handler, in nanoseconds.
+	 */
+	Map<String, Long> getHandlerLatencyP99Nanos();
+
+	/**
+	 * @return the highest latency of each handler, in nanoseconds.
+	 */
+	Map<String, Long> getHandlerLatencyMaxNanos();
+
+	/**
+	 * Clears all the recorded metrics.
+	 */
+	void reset();
+
+}
\ No newline at end of file
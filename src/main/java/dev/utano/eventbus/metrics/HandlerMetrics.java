@@ -0,0 +1,29 @@
+package dev.utano.eventbus.metrics;
+
+import dev.utano.eventbus.event.Event;
+
+/**
+ * Records the invocations of a single handler.
+ *
+ * @see EventBusMetrics#forHandler(dev.utano.eventbus.HandlerMethod, Class)
+ */
+public interface HandlerMetrics {
+
+	/**
+	 * Called after the handler has returned.
+	 *
+	 * @param event         The event passed to the handler.
+	 * @param durationNanos The time spent in the handler.
+	 */
+	void handlerInvoked(Event event, long durationNanos);
+
+	/**
+	 * Called after the handler has thrown an exception.
+	 *
+	 * @param event         The event passed to the handler.
+	 * @param cause         The exception thrown by the handler.
+	 * @param durationNanos The time spent in the handler.
+	 */
+	void handlerFailed(Event event, Throwable cause, long durationNanos);
+
+}
\ No newline at end of file
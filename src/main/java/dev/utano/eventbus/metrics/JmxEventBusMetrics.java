@@ -0,0 +1,186 @@
+package dev.utano.eventbus.metrics;
+
+import dev.utano.eventbus.HandlerMethod;
+import dev.utano.eventbus.event.Cancellable;
+import dev.utano.eventbus.event.Event;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * An {@link EventBusMetrics} keeping counters and {@link LatencyHistogram}s in memory, exposed through JMX.
+ * <p>
+ * Handlers are keyed by their method rather than by the event class they receive, so a handler
+ * of derivative events reports a single set of metrics for all the event classes it handles.
+ * Functional subscriptions are keyed by the class of their consumer, so that each lambda reports its own metrics.
+ */
+public class JmxEventBusMetrics implements EventBusMetrics, EventBusMetricsMXBean {
+
+	/**
+	 * The domain of the {@link ObjectName}s this class registers under.
+	 */
+	public static final String DOMAIN = "dev.utano.eventbus";
+
+	private final ConcurrentMap<Class<? extends Event>, EventStats> eventStats = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, HandlerStats> handlerStats = new ConcurrentHashMap<>();
+
+	@Override
+	public void eventDispatched(Event event, int handlerCount, long durationNanos) {
+		EventStats stats = eventStats.computeIfAbsent(event.getClass(), ignored -> new EventStats());
+		stats.fires.increment();
+		if (event instanceof Cancellable && ((Cancellable) event).isCancelled())
+			stats.cancellations.increment();
+		stats.dispatchLatency.record(durationNanos);
+	}
+
+	@Override
+	public HandlerMetrics forHandler(HandlerMethod handlerMethod, Class<? extends Event> eventClass) {
+		return handlerStats.computeIfAbsent(describe(handlerMethod.getHandlerClass(), handlerMethod.getMethod(), handlerMethod.getEventClass().getClasz()), ignored -> new HandlerStats());
+	}
+
+	/**
+	 * Registers this instance to the platform {@link MBeanServer}.
+	 *
+	 * @param name The name distinguishing this EventBus from the other ones.
+	 * @return The name this instance has been registered under.
+	 * @throws JMException If the name is invalid or already in use.
+	 */
+	public ObjectName register(String name) throws JMException {
+		ObjectName objectName = new ObjectName(DOMAIN + ":type=EventBusMetrics,name=" + ObjectName.quote(name));
+		ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+		return objectName;
+	}
+
+	/**
+	 * @param eventClass The concrete class of the events.
+	 * @return the histogram of the time spent dispatching events of the class, null if none was dispatched.
+	 */
+	public LatencyHistogram getDispatchLatency(Class<? extends Event> eventClass) {
+		EventStats stats = eventStats.get(eventClass);
+		return stats != null ? stats.dispatchLatency : null;
+	}
+
+	/**
+	 * @param method The handler method.
+	 * @return the histogram of the latencies of the handler, null if it has never been part of a handler chain.
+	 */
+	public LatencyHistogram getHandlerLatency(Method method) {
+		HandlerStats stats = handlerStats.get(describe(method.getDeclaringClass(), method, method.getParameterTypes()[0]));
+		return stats != null ? stats.latency : null;
+	}
+
+	@Override
+	public Map<String, Long> getEventFireCounts() {
+		return collectEvents(stats -> stats.fires.sum());
+	}
+
+	@Override
+	public Map<String, Double> getEventCancellationRates() {
+		Map<String, Double> rates = new TreeMap<>();
+		eventStats.forEach((eventClass, stats) -> {
+			if (!Event.CANCELLABLE_CLASS.isAssignableFrom(eventClass)) return;
+			long fires = stats.fires.sum();
+			rates.put(eventClass.getName(), fires == 0 ? 0 : (double) stats.cancellations.sum() / fires);
+		});
+		return rates;
+	}
+
+	@Override
+	public Map<String, Long> getEventDispatchP99Nanos() {
+		return collectEvents(stats -> stats.dispatchLatency.getPercentile(99));
+	}
+
+	@Override
+	public Map<String, Long> getHandlerInvocationCounts() {
+		return collectHandlers(stats -> stats.latency.getCount());
+	}
+
+	@Override
+	public Map<String, Long> getHandlerFailureCounts() {
+		return collectHandlers(stats -> stats.failures.sum());
+	}
+
+	@Override
+	public Map<String, Long> getHandlerLatencyP50Nanos() {
+		return collectHandlers(stats -> stats.latency.getPercentile(50));
+	}
+
+	@Override
+	public Map<String, Long> getHandlerLatencyP99Nanos() {
+		return collectHandlers(stats -> stats.latency.getPercentile(99));
+	}
+
+	@Override
+	public Map<String, Long> getHandlerLatencyMaxNanos() {
+		return collectHandlers(stats -> stats.latency.getMax());
+	}
+
+	@Override
+	public void reset() {
+		for (EventStats stats : eventStats.values()) {
+			stats.fires.reset();
+			stats.cancellations.reset();
+			stats.dispatchLatency.reset();
+		}
+		for (HandlerStats stats : handlerStats.values()) {
+			stats.failures.reset();
+			stats.latency.reset();
+		}
+	}
+
+	private Map<String, Long> collectEvents(ToLongFunction<EventStats> value) {
+		Map<String, Long> values = new TreeMap<>();
+		eventStats.forEach((eventClass, stats) -> values.put(eventClass.getName(), value.applyAsLong(stats)));
+		return values;
+	}
+
+	private Map<String, Long> collectHandlers(ToLongFunction<HandlerStats> value) {
+		Map<String, Long> values = new TreeMap<>();
+		handlerStats.forEach((handler, stats) -> values.put(handler, value.applyAsLong(stats)));
+		return values;
+	}
+
+	/**
+	 * @param handlerClass The class of the code handling the events, which is the consumer class for functional subscriptions.
+	 * @param method       The handler method.
+	 * @param eventClass   The class of the events handled by the method, which differs from its parameter for functional subscriptions.
+	 * @return the key of the handler, {@code HandlerClass#method(EventClass)}.
+	 */
+	private static String describe(Class<?> handlerClass, Method method, Class<?> eventClass) {
+		return handlerClass.getName() + '#' + method.getName() + '(' + eventClass.getName() + ')';
+	}
+
+	private static final class EventStats {
+		private final LongAdder fires = new LongAdder();
+		private final LongAdder cancellations = new LongAdder();
+		private final LatencyHistogram dispatchLatency = new LatencyHistogram();
+	}
+
+	private static final class HandlerStats implements HandlerMetrics {
+
+		private final LongAdder failures = new LongAdder();
+		private final LatencyHistogram latency = new LatencyHistogram();
+
+		@Override
+		public void handlerInvoked(Event event, long durationNanos) {
+			latency.record(durationNanos);
+		}
+
+		@Override
+		public void handlerFailed(Event event, Throwable cause, long durationNanos) {
+			failures.increment();
+			latency.record(durationNanos);
+		}
+
+	}
+
+}
@@ -0,0 +1,117 @@
+package dev.utano.eventbus.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free, allocation-free histogram of latencies in nanoseconds.
+ * <p>
+ * Like HDR histograms, values are stored in log-linear buckets: every power of two is split in
+ * {@value #SUB_BUCKET_COUNT} linear sub-buckets, so any recorded value is reported with a relative error
+ * below {@code 1/}{@value #SUB_BUCKET_COUNT}, from nanoseconds up to hours, in a fixed amount of memory.
+ */
+public class LatencyHistogram {
+
+	public static final int SUB_BUCKET_BITS = 4;
+	public static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+	private final LongAdder totalCount = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+	private final AtomicLong maxNanos = new AtomicLong();
+
+	/**
+	 * Records a latency.
+	 *
+	 * @param nanos The latency in nanoseconds, negative values are recorded as 0.
+	 */
+	public void record(long nanos) {
+		long value = Math.max(0, nanos);
+		counts.incrementAndGet(bucketIndex(value));
+		totalCount.increment();
+		totalNanos.add(value);
+
+		long max = maxNanos.get();
+		while (value > max && !maxNanos.compareAndSet(max, value))
+			max = maxNanos.get();
+	}
+
+	/**
+	 * @return the number of recorded latencies.
+	 */
+	public long getCount() {
+		return totalCount.sum();
+	}
+
+	/**
+	 * @return the highest recorded latency, in nanoseconds.
+	 */
+	public long getMax() {
+		return maxNanos.get();
+	}
+
+	/**
+	 * @return the average of the recorded latencies in nanoseconds, 0 if none was recorded.
+	 */
+	public double getMean() {
+		long count = totalCount.sum();
+		return count == 0 ? 0 : (double) totalNanos.sum() / count;
+	}
+
+	/**
+	 * Computes the latency below which the specified percentage of the recorded latencies fall.
+	 *
+	 * @param percentile The percentile, between 0 and 100.
+	 * @return The highest latency of the bucket containing the percentile, in nanoseconds, 0 if none was recorded.
+	 */
+	public long getPercentile(double percentile) {
+		long count = 0;
+		long[] snapshot = new long[BUCKET_COUNT];
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			snapshot[i] = counts.get(i);
+			count += snapshot[i];
+		}
+		if (count == 0)
+			return 0;
+
+		long target = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+		long cumulative = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			cumulative += snapshot[i];
+			if (cumulative >= target)
+				return Math.min(highestValue(i), getMax());
+		}
+		return getMax();
+	}
+
+	/**
+	 * Clears all the recorded latencies.
+	 */
+	public void reset() {
+		for (int i = 0; i < BUCKET_COUNT; i++)
+			counts.set(i, 0);
+		totalCount.reset();
+		totalNanos.reset();
+		maxNanos.set(0);
+	}
+
+	static int bucketIndex(long value) {
+		if (value < SUB_BUCKET_COUNT)
+			return (int) value;
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int shift = exponent - SUB_BUCKET_BITS;
+		int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+		return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	static long highestValue(int index) {
+		if (index < SUB_BUCKET_COUNT)
+			return index;
+		int shift = index / SUB_BUCKET_COUNT - 1;
+		long subBucket = index % SUB_BUCKET_COUNT;
+		return ((SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package dev.utano.eventbus.metrics;
+
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.invoker.HandlerInvoker;
+import dev.utano.eventbus.listener.EventListener;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Wraps the invoker of a handler, reporting the duration and the outcome of every invocation.
+ */
+@Getter
+@AllArgsConstructor
+public class MeteredHandlerInvoker implements HandlerInvoker {
+
+	private final HandlerInvoker delegate;
+	private final HandlerMetrics handlerMetrics;
+
+	@Override
+	public void invoke(EventListener listener, Event event) throws Exception {
+		long start = System.nanoTime();
+		try {
+			delegate.invoke(listener, event);
+		} catch (Exception | Error e) {
+			handlerMetrics.handlerFailed(event, e, System.nanoTime() - start);
+			throw e;
+		}
+		handlerMetrics.handlerInvoked(event, System.nanoTime() - start);
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+package dev.utano.eventbus.queue;
+
+import dev.utano.eventbus.EventBus;
+import dev.utano.eventbus.event.Event;
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * A queue of events owned by a single thread, such as the thread of a region.
+ * <p>
+ * Events may be {@link #post(Event) posted} from any thread, they are only dispatched when the owner {@link #drain() drains}
+ * the partition, usually at tick boundaries. Draining fires the events through {@link EventBus#fireEvent(Event)}, so priorities
+ * and cancellation behave as usual, and events posted by the same thread are fired in the order they have been posted.
+ * Partitions without an owner may be drained by any thread, but only by one at a time.
+ */
+public final class EventPartition {
+
+	@Getter
+	private final EventBus eventBus;
+	@Getter
+	private final int index;
+	private final MpscQueue<Event> queue = new MpscQueue<>();
+	private final Consumer<Event> dispatcher;
+	/**
+	 * The only thread allowed to drain the partition, null if any thread may drain it.
+	 */
+	private volatile Thread owner;
+	/**
+	 * Claimed for the duration of a drain, the queue only supports a single consumer at a time.
+	 */
+	private final AtomicBoolean draining = new AtomicBoolean();
+
+	EventPartition(EventBus eventBus, int index) {
+		this.eventBus = eventBus;
+		this.index = index;
+		this.dispatcher = eventBus::fireEvent;
+	}
+
+	/**
+	 * Queues the event, to be fired on the next {@link #drain()}. May be called from any thread.
+	 *
+	 * @param event The event to queue.
+	 */
+	public void post(Event event) {
+		queue.offer(event);
+	}
+
+	/**
+	 * Fires the events posted before the call, in order. Events posted by the handlers themselves are fired on the next drain.
+	 *
+	 * @return The number of fired events.
+	 * @throws IllegalStateException if the partition has an owner and the current thread is not the owner,
+	 *                               or if the partition is already being drained.
+	 */
+	public int drain() throws IllegalStateException {
+		Thread owner = this.owner;
+		if (owner != null && owner != Thread.currentThread())
+			throw new IllegalStateException("Partition " + index + " is owned by " + owner.getName() + " and cannot be drained by " + Thread.currentThread().getName() + ".");
+		if (!draining.compareAndSet(false, true))
+			throw new IllegalStateException("Partition " + index + " is already being drained.");
+
+		try {
+			return queue.drain(dispatcher);
+		} finally {
+			draining.set(false);
+		}
+	}
+
+	/**
+	 * Restricts draining to the specified thread, so that handlers are guaranteed to run on it.
+	 *
+	 * @param owner The owner of the partition, null to let any thread drain it.
+	 */
+	public void setOwner(Thread owner) {
+		this.owner = owner;
+	}
+
+	/**
+	 * @return the owner of the partition, null if any thread may drain it.
+	 */
+	public Thread getOwner() {
+		return owner;
+	}
+
+	/**
+	 * @return {@code true} if no event is waiting to be fired, {@code false} otherwise.
+	 */
+	public boolean isEmpty() {
+		return queue.isEmpty();
+	}
+
+}
@@ -0,0 +1,80 @@
+package dev.utano.eventbus.queue;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * An unbounded, lock-free, multi-producer single-consumer linked queue.
+ * <p>
+ * Producers only swap the tail, so offering is wait-free. The elements offered by a producer are polled in the order
+ * they have been offered. An element whose producer has swapped the tail but not yet linked its node is only seen by
+ * the next drain.
+ *
+ * @param <E> The type of the elements.
+ */
+final class MpscQueue<E> {
+
+	private final AtomicReference<Node<E>> tail;
+	/**
+	 * The last consumed node, only accessed by the consumer.
+	 */
+	private Node<E> head;
+
+	MpscQueue() {
+		Node<E> stub = new Node<>(null);
+		this.head = stub;
+		this.tail = new AtomicReference<>(stub);
+	}
+
+	/**
+	 * Adds an element at the tail of the queue, may be called from any thread.
+	 *
+	 * @param element The element to add.
+	 */
+	void offer(E element) {
+		Node<E> node = new Node<>(element);
+		tail.getAndSet(node).next = node;
+	}
+
+	/**
+	 * Consumes the elements offered before the call, so that elements offered by the consumer itself are left for the next drain.
+	 * Must only be called by the consumer.
+	 *
+	 * @param consumer The consumer of the elements.
+	 * @return The number of consumed elements.
+	 */
+	int drain(Consumer<? super E> consumer) {
+		Node<E> last = tail.get();
+		int count = 0;
+		while (head != last) {
+			Node<E> next = head.next;
+			if (next == null) break;
+
+			E element = next.element;
+			next.element = null;
+			head = next;
+			count++;
+			consumer.accept(element);
+		}
+		return count;
+	}
+
+	/**
+	 * @return {@code true} if no element is waiting to be consumed, {@code false} otherwise.
+	 */
+	boolean isEmpty() {
+		return head == tail.get();
+	}
+
+	private static final class Node<E> {
+
+		private E element;
+		private volatile Node<E> next;
+
+		private Node(E element) {
+			this.element = element;
+		}
+
+	}
+
+}
@@ -0,0 +1,70 @@
+package dev.utano.eventbus.queue;
+
+import dev.utano.eventbus.EventBus;
+import dev.utano.eventbus.event.Event;
+import lombok.Getter;
+
+/**
+ * Queued dispatch for an {@link EventBus} shared by several threads, such as the threads of the regions of a sharded world.
+ * <p>
+ * Each {@link EventPartition} has its own lock-free queue: events are posted to a partition from any thread, and the
+ * partition's owner fires them when it {@link EventPartition#drain() drains} it. Partitions never share state besides the
+ * lock-free listener snapshot of the EventBus, so throughput scales with the number of partitions.
+ */
+public final class PartitionedEventQueue {
+
+	@Getter
+	private final EventBus eventBus;
+	private final EventPartition[] partitions;
+
+	/**
+	 * @param eventBus   The EventBus firing the drained events.
+	 * @param partitions The number of partitions.
+	 */
+	public PartitionedEventQueue(EventBus eventBus, int partitions) {
+		if (partitions <= 0)
+			throw new IllegalArgumentException("The number of partitions must be positive, got " + partitions + ".");
+
+		this.eventBus = eventBus;
+		this.partitions = new EventPartition[partitions];
+		for (int i = 0; i < partitions; i++)
+			this.partitions[i] = new EventPartition(eventBus, i);
+	}
+
+	/**
+	 * @param index The index of the partition.
+	 * @return The partition.
+	 */
+	public EventPartition getPartition(int index) {
+		return partitions[index];
+	}
+
+	/**
+	 * Maps an arbitrary key, such as a region or an entity id, to its partition.
+	 *
+	 * @param key The key.
+	 * @return The partition of the key.
+	 */
+	public EventPartition getPartitionFor(int key) {
+		return partitions[Math.floorMod(key, partitions.length)];
+	}
+
+	/**
+	 * Queues the event in the partition of the key.
+	 *
+	 * @param key   The key, such as a region or an entity id.
+	 * @param event The event to queue.
+	 * @see EventPartition#post(Event)
+	 */
+	public void post(int key, Event event) {
+		getPartitionFor(key).post(event);
+	}
+
+	/**
+	 * @return the number of partitions.
+	 */
+	public int getPartitionCount() {
+		return partitions.length;
+	}
+
+}
@@ -0,0 +1,137 @@
+package dev.utano.eventbus.sticky;
+
+import dev.utano.eventbus.event.Event;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Keeps the latest sticky event of each event class, delivered to sticky handlers as soon as their listener is registered.
+ * <p>
+ * The cache is bounded: once it holds {@link #getMaxSize()} event classes, posting an event of a new class evicts the
+ * class whose event was posted the longest time ago. Events can also be evicted explicitly.
+ *
+ * @see dev.utano.eventbus.EventBus#postSticky(Event)
+ */
+public class StickyEventCache {
+
+	/**
+	 * The default maximum number of event classes kept by the cache.
+	 */
+	public static final int DEFAULT_MAX_SIZE = 256;
+
+	private final LinkedHashMap<Class<? extends Event>, Event> events = new LinkedHashMap<>();
+	private int maxSize;
+	/**
+	 * The number of cached events, readable without locking so that registering listeners does not contend on an empty cache.
+	 */
+	private volatile int size;
+
+	public StickyEventCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * @param maxSize The maximum number of event classes kept by the cache.
+	 */
+	public StickyEventCache(int maxSize) {
+		setMaxSize(maxSize);
+	}
+
+	/**
+	 * Caches the specified event, replacing the previous event of the same class.
+	 *
+	 * @param event The event to cache.
+	 * @return The replaced event, null if none was cached.
+	 */
+	public synchronized Event put(Event event) {
+		// Removing first, so that the event class becomes the most recently posted one
+		Event previous = events.remove(event.getClass());
+		events.put(event.getClass(), event);
+		evictExcess();
+		return previous;
+	}
+
+	/**
+	 * @param eventClass The concrete class of the event.
+	 * @param <T>        The type of the event.
+	 * @return The cached event of the specified class, null if none is cached.
+	 */
+	public synchronized <T extends Event> T get(Class<T> eventClass) {
+		return eventClass.cast(events.get(eventClass));
+	}
+
+	/**
+	 * Evicts the cached event of the specified class.
+	 *
+	 * @param eventClass The concrete class of the event.
+	 * @param <T>        The type of the event.
+	 * @return The evicted event, null if none was cached.
+	 */
+	public synchronized <T extends Event> T remove(Class<T> eventClass) {
+		T removed = eventClass.cast(events.remove(eventClass));
+		size = events.size();
+		return removed;
+	}
+
+	/**
+	 * Evicts all the cached events.
+	 */
+	public synchronized void clear() {
+		events.clear();
+		size = 0;
+	}
+
+	/**
+	 * @return a copy of the cached events, from the least to the most recently posted.
+	 */
+	public synchronized List<Event> getEvents() {
+		return new ArrayList<>(events.values());
+	}
+
+	/**
+	 * @return the maximum number of event classes kept by the cache.
+	 */
+	public synchronized int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Changes the maximum number of event classes kept by the cache, evicting the least recently posted events if needed.
+	 *
+	 * @param maxSize The maximum number of event classes, 0 to disable sticky events.
+	 * @throws IllegalArgumentException if the maximum size is negative.
+	 */
+	public synchronized void setMaxSize(int maxSize) throws IllegalArgumentException {
+		if (maxSize < 0)
+			throw new IllegalArgumentException("The maximum size cannot be negative: " + maxSize);
+		this.maxSize = maxSize;
+		evictExcess();
+	}
+
+	/**
+	 * @return the number of cached events.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return whether no event is cached.
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	private void evictExcess() {
+		Iterator<Event> iterator = events.values().iterator();
+		while (events.size() > maxSize) {
+			iterator.next();
+			iterator.remove();
+		}
+		size = events.size();
+	}
+
+}
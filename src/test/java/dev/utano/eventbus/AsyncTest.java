@@ -0,0 +1,119 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.event.CancellableTestEvent;
+import dev.utano.eventbus.event.TestEvent;
+import dev.utano.eventbus.event.priority.EventPriority;
+import dev.utano.eventbus.listener.EventListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncTest {
+
+	@Test
+	public void asyncHandlersRunAfterSynchronousOnesTest() throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			AsyncListener listener = new AsyncListener();
+			EventBus eventBus = new EventBus(executor).register(listener);
+
+			CancellableTestEvent event = new CancellableTestEvent();
+			assertSame(event, eventBus.fireEventAsync(event).get(5, TimeUnit.SECONDS), "The future should be completed with the fired event.");
+
+			assertEquals("sync-low", listener.calls.get(0), "Synchronous handlers should be invoked first.");
+			assertEquals("sync-high", listener.calls.get(1), "Synchronous handlers should be invoked by priority.");
+			assertEquals("async", listener.calls.get(2), "Asynchronous handlers should be invoked after the synchronous ones.");
+			assertEquals(3, listener.calls.size(), "Asynchronous handlers ignoring cancelled events should be skipped.");
+			assertNotSame(Thread.currentThread(), listener.asyncThread, "Asynchronous handlers should be invoked on the executor.");
+			assertTrue(event.isCancelled(), "The event should be cancelled by the synchronous handler.");
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void sealedCancellationStateTest() throws InterruptedException {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			EventBus eventBus = new EventBus(executor).register(new UncancellingListener());
+
+			CancellableTestEvent event = new CancellableTestEvent();
+			ExecutionException exception = assertThrows(ExecutionException.class, () -> eventBus.fireEventAsync(event).get(5, TimeUnit.SECONDS));
+
+			assertTrue(containsCause(exception, IllegalStateException.class), "Modifying a sealed event should fail.");
+			assertTrue(event.isSealed(), "The event should be sealed after the synchronous phase.");
+			assertTrue(event.isCancelled(), "The asynchronous handler should not be able to uncancel the event.");
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void noAsyncHandlersTest() throws Exception {
+		EventBus eventBus = new EventBus(runnable -> fail("No handler should be submitted to the executor."));
+		TestEvent event = new TestEvent();
+
+		assertSame(event, eventBus.fireEventAsync(event).get(), "The future should be completed with the fired event.");
+		assertFalse(event.isSealed(), "Events without asynchronous handlers should not be sealed.");
+	}
+
+	private static boolean containsCause(Throwable throwable, Class<? extends Throwable> causeClass) {
+		for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+			if (causeClass.isInstance(cause))
+				return true;
+		}
+		return false;
+	}
+
+	public static class AsyncListener implements EventListener {
+
+		private final List<String> calls = new CopyOnWriteArrayList<>();
+		private volatile Thread asyncThread;
+
+		@EventHandler(priority = EventPriority.HIGH)
+		public void syncHigh(CancellableTestEvent event) {
+			calls.add("sync-high");
+		}
+
+		@EventHandler(priority = EventPriority.LOWEST, async = true)
+		public void async(CancellableTestEvent event) {
+			asyncThread = Thread.currentThread();
+			calls.add("async");
+		}
+
+		@EventHandler(priority = EventPriority.LOW)
+		public void syncLow(CancellableTestEvent event) {
+			calls.add("sync-low");
+			event.setCancelled(true);
+		}
+
+		@EventHandler(async = true, ignoreCancelled = true)
+		public void ignoredAsync(CancellableTestEvent event) {
+			calls.add("ignored-async");
+		}
+
+	}
+
+	public static class UncancellingListener implements EventListener {
+
+		@EventHandler
+		public void cancel(CancellableTestEvent event) {
+			event.setCancelled(true);
+		}
+
+		@EventHandler(async = true)
+		public void uncancel(CancellableTestEvent event) {
+			event.setCancelled(false);
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,83 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.event.CancellableTestEvent;
+import dev.utano.eventbus.event.TestEvent;
+import dev.utano.eventbus.listener.EventListener;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares firing a batch of events of the same class through {@link EventBus#fireEvents(List)}
+ * against firing them one by one.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BatchEventBusBenchmark implements EventListener {
+
+	@Param({"16", "1000"})
+	private int batchSize;
+
+	private EventBus eventBus;
+	private List<TestEvent> events;
+	private List<CancellableTestEvent> cancellableEvents;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		eventBus = new EventBus();
+		eventBus.register(this);
+		events = new ArrayList<>(batchSize);
+		cancellableEvents = new ArrayList<>(batchSize);
+		for (int i = 0; i < batchSize; i++) {
+			events.add(new TestEvent());
+			cancellableEvents.add(new CancellableTestEvent());
+		}
+	}
+
+	@Benchmark
+	public void benchmarkSingleEvents() {
+		for (TestEvent event : events)
+			eventBus.fireEvent(event);
+	}
+
+	@Benchmark
+	public List<TestEvent> benchmarkBatch() {
+		return eventBus.fireEvents(events);
+	}
+
+	@Benchmark
+	public void benchmarkSingleCancellableEvents() {
+		for (CancellableTestEvent event : cancellableEvents)
+			eventBus.fireEvent(event);
+	}
+
+	@Benchmark
+	public List<CancellableTestEvent> benchmarkCancellableBatch() {
+		return eventBus.fireEvents(cancellableEvents);
+	}
+
+	@EventHandler(handleDerivatives = false)
+	public void onTestEvent(TestEvent ignored) {
+	}
+
+	@EventHandler(handleDerivatives = false)
+	public void onCancellableTestEvent(CancellableTestEvent ignored) {
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(BatchEventBusBenchmark.class.getSimpleName())
+				.forks(1)
+				.build();
+
+		new Runner(opt).run();
+	}
+}
\ No newline at end of file
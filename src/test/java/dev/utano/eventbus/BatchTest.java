@@ -0,0 +1,81 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.event.CancellableTestEvent;
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.event.TestEvent;
+import dev.utano.eventbus.event.priority.EventPriority;
+import dev.utano.eventbus.listener.EventListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchTest {
+
+	@Test
+	public void handlerMajorOrderTest() {
+		BatchListener listener = new BatchListener();
+		EventBus eventBus = new EventBus().register(listener);
+
+		TestEvent first = new TestEvent();
+		TestEvent second = new TestEvent();
+		eventBus.fireEvents(Arrays.asList(first, second));
+
+		assertEquals(Arrays.asList("low", "low", "high", "high"), listener.calls, "Every event of the batch should go through a handler before the next one.");
+		assertSame(first, listener.events.get(0), "Events should be delivered in batch order.");
+		assertSame(second, listener.events.get(1), "Events should be delivered in batch order.");
+	}
+
+	@Test
+	public void perEventCancellationTest() {
+		BatchListener listener = new BatchListener();
+		EventBus eventBus = new EventBus().register(listener);
+
+		CancellableTestEvent cancelled = new CancellableTestEvent();
+		cancelled.setCancelled(true);
+		CancellableTestEvent notCancelled = new CancellableTestEvent();
+		eventBus.fireEvents(new CancellableTestEvent[]{cancelled, notCancelled});
+
+		assertFalse(cancelled.isMonitored(), "Handlers ignoring cancelled events should skip the cancelled event.");
+		assertTrue(notCancelled.isMonitored(), "The cancellation of an event should not affect the rest of the batch.");
+	}
+
+	@Test
+	public void mixedClassesTest() {
+		BatchListener listener = new BatchListener();
+		EventBus eventBus = new EventBus().register(listener);
+
+		eventBus.fireEvents(Arrays.<Event>asList(new TestEvent(), new CancellableTestEvent(), new TestEvent()));
+
+		assertEquals(Arrays.asList("low", "high", "cancellable", "low", "high"), listener.calls, "Each run of events of the same class should be dispatched in order.");
+	}
+
+	public static class BatchListener implements EventListener {
+
+		private final List<String> calls = new ArrayList<>();
+		private final List<Event> events = new ArrayList<>();
+
+		@EventHandler(priority = EventPriority.HIGH, handleDerivatives = false)
+		public void high(TestEvent event) {
+			calls.add("high");
+		}
+
+		@EventHandler(priority = EventPriority.LOW, handleDerivatives = false)
+		public void low(TestEvent event) {
+			calls.add("low");
+			events.add(event);
+		}
+
+		@EventHandler(ignoreCancelled = true)
+		public void cancellable(CancellableTestEvent event) {
+			calls.add("cancellable");
+			event.setMonitored(true);
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,81 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.event.CancellableTestEvent;
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.event.TestEvent;
+import dev.utano.eventbus.listener.EventListener;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the dispatch of regular and cancellable events through the same number of handlers.
+ * Every cancellable handler reads the cancelled and stop immediate propagation flags, so both
+ * benchmarks should report the same cost.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CancellableEventBenchmark implements EventListener {
+
+	private EventBus eventBus;
+	private Event regularEvent;
+	private CancellableTestEvent cancellableEvent;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		eventBus = new EventBus();
+		eventBus.register(this);
+		regularEvent = new TestEvent();
+		cancellableEvent = new CancellableTestEvent();
+	}
+
+	@Benchmark
+	public Event benchmarkRegularDispatch() {
+		return eventBus.fireEvent(regularEvent);
+	}
+
+	@Benchmark
+	public Event benchmarkCancellableDispatch() {
+		cancellableEvent.setCancelled(false);
+		return eventBus.fireEvent(cancellableEvent);
+	}
+
+	@EventHandler(handleDerivatives = false)
+	public void onTestEvent1(TestEvent ignored) {
+	}
+
+	@EventHandler(handleDerivatives = false)
+	public void onTestEvent2(TestEvent ignored) {
+	}
+
+	@EventHandler(handleDerivatives = false)
+	public void onTestEvent3(TestEvent ignored) {
+	}
+
+	@EventHandler(handleDerivatives = false, ignoreCancelled = true)
+	public void onCancellableTestEvent1(CancellableTestEvent ignored) {
+	}
+
+	@EventHandler(handleDerivatives = false, ignoreCancelled = true)
+	public void onCancellableTestEvent2(CancellableTestEvent ignored) {
+	}
+
+	@EventHandler(handleDerivatives = false, ignoreCancelled = true)
+	public void onCancellableTestEvent3(CancellableTestEvent ignored) {
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(CancellableEventBenchmark.class.getSimpleName())
+				.forks(1)
+				.build();
+
+		new Runner(opt).run();
+	}
+}
\ No newline at end of file
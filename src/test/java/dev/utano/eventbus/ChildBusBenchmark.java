@@ -0,0 +1,90 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.listener.EventListener;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares arenas sharing a single bus, whose listeners check the arena of the event, against an arena per child bus.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChildBusBenchmark {
+
+	private static final int LISTENERS_PER_ARENA = 8;
+
+	@Param({"10", "100"})
+	public int arenaCount;
+
+	private EventBus flatEventBus;
+	private EventBus arenaEventBus;
+	private Event event;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		flatEventBus = new EventBus();
+		EventBus rootEventBus = new EventBus();
+		for (int arena = 0; arena < arenaCount; arena++) {
+			EventBus child = rootEventBus.createChild();
+			for (int i = 0; i < LISTENERS_PER_ARENA; i++) {
+				flatEventBus.register(new ArenaListener(arena));
+				child.register(new ArenaListener(arena));
+			}
+			if (arena == 0)
+				arenaEventBus = child;
+		}
+		event = new ArenaEvent(0);
+	}
+
+	@Benchmark
+	public Event benchmarkFlat() {
+		return flatEventBus.fireEvent(event);
+	}
+
+	@Benchmark
+	public Event benchmarkChild() {
+		return arenaEventBus.fireEvent(event);
+	}
+
+	public static class ArenaEvent extends Event {
+
+		private final int arena;
+
+		public ArenaEvent(int arena) {
+			this.arena = arena;
+		}
+
+	}
+
+	public static class ArenaListener implements EventListener {
+
+		private final int arena;
+
+		public ArenaListener(int arena) {
+			this.arena = arena;
+		}
+
+		@EventHandler
+		public void onArenaEvent(ArenaEvent event) {
+			if (event.arena != arena) return;
+		}
+
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(ChildBusBenchmark.class.getSimpleName())
+				.forks(1)
+				.build();
+
+		new Runner(opt).run();
+	}
+}
@@ -0,0 +1,125 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.event.CancellableTestEvent;
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.event.TestEvent;
+import dev.utano.eventbus.event.priority.EventPriority;
+import dev.utano.eventbus.listener.EventListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChildBusTest {
+
+	@Test
+	public void bubblingTest() {
+		List<String> calls = new ArrayList<>();
+		EventBus root = new EventBus();
+		EventBus world = root.createChild();
+		EventBus arena = world.createChild();
+		root.subscribe(TestEvent.class, event -> calls.add("root"), EventPriority.HIGHEST, false);
+		world.subscribe(TestEvent.class, event -> calls.add("world"));
+		arena.subscribe(TestEvent.class, event -> calls.add("arena"), EventPriority.LOWEST, false);
+
+		arena.fireEvent(new TestEvent());
+		assertEquals(Arrays.asList("arena", "world", "root"), calls, "Events should bubble up from the child to its ancestors.");
+
+		calls.clear();
+		world.fireEvent(new TestEvent());
+		assertEquals(Arrays.asList("world", "root"), calls, "Events should not reach the children of the bus they are fired on.");
+	}
+
+	@Test
+	public void nonBubblingTest() {
+		List<String> calls = new ArrayList<>();
+		EventBus root = new EventBus();
+		EventBus child = root.createChild(false);
+		root.subscribe(TestEvent.class, event -> calls.add("root"));
+		child.subscribe(TestEvent.class, event -> calls.add("child"));
+
+		child.fireEvent(new TestEvent());
+		assertEquals(Collections.singletonList("child"), calls, "Events of a non-bubbling child should stay within it.");
+		assertSame(root, child.getParent(), "The child should reference its parent.");
+	}
+
+	@Test
+	public void cancellationBubblesTest() {
+		List<String> calls = new ArrayList<>();
+		EventBus root = new EventBus();
+		EventBus child = root.createChild();
+		child.subscribe(CancellableTestEvent.class, event -> event.setCancelled(true));
+		root.subscribe(CancellableTestEvent.class, event -> calls.add("ignoring"), EventPriority.NORMAL, true);
+		root.subscribe(CancellableTestEvent.class, event -> calls.add("monitor"), EventPriority.MONITOR, false);
+
+		assertTrue(child.fireEvent(new CancellableTestEvent()).isCancelled(), "The child should cancel the event.");
+		assertEquals(Collections.singletonList("monitor"), calls, "The parent should see the cancellation of the child.");
+	}
+
+	@Test
+	public void deadEventTest() {
+		List<Event> deadEvents = new ArrayList<>();
+		EventBus root = new EventBus();
+		root.subscribe(TestEvent.class, event -> {
+		});
+		EventBus child = root.createChild().setDeadEventHandler(deadEvents::add);
+
+		child.fireEvent(new TestEvent());
+		assertTrue(deadEvents.isEmpty(), "Events handled by an ancestor should not be reported as dead.");
+
+		DeadEvent dead = child.fireEvent(new DeadEvent());
+		assertEquals(Collections.singletonList(dead), deadEvents, "Events nobody handles should be reported as dead by the bus they are fired on.");
+	}
+
+	@Test
+	public void closeTest() {
+		EventBus root = new EventBus();
+		EventBus child = root.createChild();
+		CountingListener listener = new CountingListener();
+		Registration registration = child.registerHandle(listener);
+		child.register(new CountingListener());
+
+		child.close();
+		assertFalse(registration.isActive(), "Registrations should no longer be active once their bus is closed.");
+		child.fireEvent(new TestEvent());
+
+		assertEquals(0, listener.count, "The listeners of a closed bus should no longer receive events.");
+		assertEquals(0, child.getSnapshot().size(), "Closing should drop all the listeners.");
+		assertTrue(child.isClosed(), "The child should be closed.");
+		assertThrows(IllegalStateException.class, () -> child.register(new CountingListener()), "A closed bus should reject registrations.");
+	}
+
+	@Test
+	public void hasListenersTest() {
+		EventBus root = new EventBus();
+		EventBus world = root.createChild();
+		EventBus arena = world.createChild();
+		EventBus isolated = root.createChild(false);
+		root.subscribe(TestEvent.class, event -> {
+		});
+
+		assertTrue(arena.hasListeners(TestEvent.class), "A bubbling child should report the listeners of its ancestors.");
+		assertFalse(isolated.hasListeners(TestEvent.class), "A non-bubbling child should only report its own listeners.");
+		assertFalse(arena.hasListeners(CancellableTestEvent.class), "Events nobody listens to should not be reported.");
+	}
+
+	public static class DeadEvent extends Event {
+	}
+
+	public static class CountingListener implements EventListener {
+
+		private int count;
+
+		@EventHandler
+		public void onTestEvent(TestEvent event) {
+			count++;
+		}
+
+	}
+
+}
@@ -0,0 +1,93 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.coalesce.CoalescingBuffer;
+import dev.utano.eventbus.coalesce.CoalescingEvent;
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.listener.EventListener;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a tick in which every entity changes its state several times, firing every change
+ * against buffering them in a {@link CoalescingBuffer} and flushing the merged ones.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CoalescingBenchmark {
+
+	private static final int ENTITIES = 64;
+	private static final int CHANGES_PER_ENTITY = 16;
+
+	private EventBus eventBus;
+	private CoalescingBuffer buffer;
+	private StateChangeEvent[] events;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		eventBus = new EventBus();
+		for (int i = 0; i < 16; i++)
+			eventBus.register(new BenchmarkListener());
+		buffer = new CoalescingBuffer(eventBus);
+
+		events = new StateChangeEvent[ENTITIES * CHANGES_PER_ENTITY];
+		for (int i = 0; i < events.length; i++)
+			events[i] = new StateChangeEvent(i % ENTITIES);
+	}
+
+	@Benchmark
+	public void benchmarkFireAll() {
+		for (StateChangeEvent event : events)
+			eventBus.fireEvent(event);
+	}
+
+	@Benchmark
+	public int benchmarkCoalesce() {
+		for (StateChangeEvent event : events)
+			buffer.post(event);
+		return buffer.flush();
+	}
+
+	public static class StateChangeEvent extends Event implements CoalescingEvent<StateChangeEvent> {
+
+		private final int entityId;
+
+		public StateChangeEvent(int entityId) {
+			this.entityId = entityId;
+		}
+
+		@Override
+		public long getCoalescingKey() {
+			return entityId;
+		}
+
+		@Override
+		public StateChangeEvent coalesce(StateChangeEvent newer) {
+			return newer;
+		}
+
+	}
+
+	public static class BenchmarkListener implements EventListener {
+
+		@EventHandler
+		public void onStateChangeEvent(StateChangeEvent ignored) {
+		}
+
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(CoalescingBenchmark.class.getSimpleName())
+				.forks(1)
+				.build();
+
+		new Runner(opt).run();
+	}
+}
@@ -0,0 +1,76 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.event.TestEvent;
+import dev.utano.eventbus.listener.EventListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrencyTest {
+
+	@Test
+	public void registerWhileFiringTest() throws InterruptedException {
+		EventBus eventBus = new EventBus();
+		CountingListener permanentListener = new CountingListener();
+		eventBus.register(permanentListener);
+
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		Thread registeringThread = new Thread(() -> {
+			try {
+				for (int i = 0; i < 2_000; i++) {
+					CountingListener listener = new CountingListener();
+					eventBus.register(listener);
+					eventBus.unregister(listener);
+				}
+			} catch (Throwable t) {
+				failure.set(t);
+			}
+		});
+		registeringThread.start();
+
+		int fired = 0;
+		while (registeringThread.isAlive()) {
+			eventBus.fireEvent(new TestEvent());
+			fired++;
+		}
+		registeringThread.join();
+
+		assertNull(failure.get(), "Registering while firing should not fail.");
+		assertEquals(fired, permanentListener.invocations.get(), "The permanent listener should receive every event.");
+		assertEquals(1, eventBus.getSnapshot().size(), "Only the permanent listener should be left registered.");
+	}
+
+	@Test
+	public void batchRegistrationTest() {
+		EventBus eventBus = new EventBus();
+		List<CountingListener> listeners = new ArrayList<>();
+		for (int i = 0; i < 10; i++)
+			listeners.add(new CountingListener());
+
+		eventBus.registerAll(listeners);
+		eventBus.fireEvent(new TestEvent());
+		for (CountingListener listener : listeners)
+			assertEquals(1, listener.invocations.get(), "Every listener registered in the batch should receive the event.");
+
+		eventBus.unregisterAll(listeners.subList(0, 5));
+		assertEquals(5, eventBus.getSnapshot().size(), "Half of the listeners should be left registered.");
+	}
+
+	public static class CountingListener implements EventListener {
+
+		private final AtomicInteger invocations = new AtomicInteger();
+
+		@EventHandler
+		public void onTestEvent(TestEvent event) {
+			invocations.incrementAndGet();
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.event.TestEvent;
+import dev.utano.eventbus.listener.EventListener;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the fire throughput of an {@link EventBus} shared by several threads while another thread
+ * keeps registering and unregistering a listener.
+ * Compare the {@code fire} results of the {@code concurrent} group against {@code fireOnly} to see the
+ * impact of the registrations, and run with different thread counts to see the scaling.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConcurrentEventBusBenchmark {
+
+	private EventBus eventBus;
+	private Event event;
+	private EventListener churningListener;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		eventBus = new EventBus();
+		for (int i = 0; i < 16; i++)
+			eventBus.register(new BenchmarkListener());
+		event = new TestEvent();
+		churningListener = new BenchmarkListener();
+	}
+
+	@Benchmark
+	@Group("concurrent")
+	@GroupThreads(3)
+	public Event fire() {
+		return eventBus.fireEvent(event);
+	}
+
+	@Benchmark
+	@Group("concurrent")
+	@GroupThreads(1)
+	public void registerAndUnregister() {
+		eventBus.register(churningListener);
+		eventBus.unregister(churningListener);
+	}
+
+	@Benchmark
+	@Group("fireOnly")
+	@GroupThreads(3)
+	public Event fireOnly() {
+		return eventBus.fireEvent(event);
+	}
+
+	public static class BenchmarkListener implements EventListener {
+
+		@EventHandler
+		public void onTestEvent(TestEvent ignored) {
+		}
+
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(ConcurrentEventBusBenchmark.class.getSimpleName())
+				.forks(1)
+				.build();
+
+		new Runner(opt).run();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.event.CancellableTestEvent;
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.event.TestEvent;
+import dev.utano.eventbus.listener.EventListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DeadEventTest {
+
+	@Test
+	public void hasListenersTest() {
+		EventBus eventBus = new EventBus();
+		assertFalse(eventBus.hasListeners(TestEvent.class), "No listener should be reported on an empty EventBus.");
+
+		TestListener listener = new TestListener();
+		eventBus.register(listener);
+		assertTrue(eventBus.hasListeners(TestEvent.class), "The registered listener should be reported.");
+		assertFalse(eventBus.hasListeners(CancellableTestEvent.class), "Handlers of other classes should not be reported.");
+
+		eventBus.unregister(listener);
+		assertFalse(eventBus.hasListeners(TestEvent.class), "Unregistered listeners should not be reported.");
+	}
+
+	@Test
+	public void handlerCountsTest() {
+		EventBus eventBus = new EventBus();
+		TestListener first = new TestListener();
+		TestListener second = new TestListener();
+		eventBus.register(first).register(second);
+		assertFalse(eventBus.hasListeners(SubTestEvent.class), "Handlers not handling derivatives should not be reported for subclasses.");
+
+		eventBus.unregister(first);
+		assertTrue(eventBus.hasListeners(TestEvent.class), "The remaining listener should still be reported.");
+		eventBus.unregister(second);
+		assertFalse(eventBus.hasListeners(TestEvent.class), "Listeners should no longer be reported once all of them are unregistered.");
+
+		Registration registration = eventBus.subscribe(Event.class, event -> {
+		});
+		assertTrue(eventBus.hasListeners(SubTestEvent.class), "Handlers of derivatives should be reported for subclasses.");
+
+		registration.close();
+		eventBus.purgeCollected();
+		assertFalse(eventBus.hasListeners(SubTestEvent.class), "Purged subscriptions should no longer be reported.");
+	}
+
+	@Test
+	public void deadEventHandlerTest() {
+		List<Event> deadEvents = new ArrayList<>();
+		EventBus eventBus = new EventBus().register(new TestListener()).setDeadEventHandler(deadEvents::add);
+
+		eventBus.fireEvent(new TestEvent());
+		CancellableTestEvent dead = eventBus.fireEvent(new CancellableTestEvent());
+		CancellableTestEvent deadInBatch = new CancellableTestEvent();
+		eventBus.fireEvents(Arrays.<Event>asList(new TestEvent(), deadInBatch));
+
+		assertEquals(Arrays.<Event>asList(dead, deadInBatch), deadEvents, "Only the events without handlers should be reported.");
+	}
+
+	public static class SubTestEvent extends TestEvent {
+	}
+
+	public static class TestListener implements EventListener {
+
+		@EventHandler(handleDerivatives = false)
+		public void onTestEvent(TestEvent event) {
+		}
+
+	}
+
+}
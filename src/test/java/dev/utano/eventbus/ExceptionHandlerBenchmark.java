@@ -0,0 +1,113 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.event.TestEvent;
+import dev.utano.eventbus.exception.CollectingExceptionHandler;
+import dev.utano.eventbus.exception.SubscriberExceptionHandlers;
+import dev.utano.eventbus.listener.EventListener;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the non-throwing path of the dispatch under each exception policy. As the policy is only read once a handler
+ * has failed, all the results should match. The baselines invoke the same handlers in a plain loop, with and without
+ * isolating every invocation in its own try/catch, showing that the isolation itself costs nothing until a handler fails.
+ */
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExceptionHandlerBenchmark {
+
+	@Benchmark
+	public Event benchmarkFire(PolicyState state) {
+		return state.eventBus.fireEvent(state.event);
+	}
+
+	@Benchmark
+	public Event benchmarkBaselineLoop(BaselineState state) throws Exception {
+		for (ListenerHandler listenerHandler : state.handlerChain.handlers)
+			listenerHandler.invoke(state.event);
+		return state.event;
+	}
+
+	@Benchmark
+	public Event benchmarkIsolatedLoop(BaselineState state) {
+		for (ListenerHandler listenerHandler : state.handlerChain.handlers) {
+			try {
+				listenerHandler.invoke(state.event);
+			} catch (Exception | Error e) {
+				state.exceptionHandler.handleException(e, null);
+			}
+		}
+		return state.event;
+	}
+
+	@State(Scope.Thread)
+	public static class PolicyState {
+
+		@Param({"rethrow", "logAndContinue", "collect"})
+		private String policy;
+
+		private EventBus eventBus;
+		private Event event;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			eventBus = new EventBus();
+			switch (policy) {
+				case "logAndContinue":
+					eventBus.setExceptionHandler(SubscriberExceptionHandlers.logAndContinue());
+					break;
+				case "collect":
+					eventBus.setExceptionHandler(SubscriberExceptionHandlers.collect());
+					break;
+				default:
+					eventBus.setExceptionHandler(SubscriberExceptionHandlers.rethrow());
+			}
+			for (int i = 0; i < 16; i++)
+				eventBus.register(new BenchmarkListener());
+			event = new TestEvent();
+		}
+
+	}
+
+	@State(Scope.Thread)
+	public static class BaselineState {
+
+		private final CollectingExceptionHandler exceptionHandler = SubscriberExceptionHandlers.collect();
+		private HandlerChain handlerChain;
+		private Event event;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			EventBus eventBus = new EventBus();
+			for (int i = 0; i < 16; i++)
+				eventBus.register(new BenchmarkListener());
+			handlerChain = eventBus.getSnapshot().getHandlerChain(TestEvent.class);
+			event = new TestEvent();
+		}
+
+	}
+
+	public static class BenchmarkListener implements EventListener {
+
+		@EventHandler
+		public void onTestEvent(TestEvent ignored) {
+		}
+
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(ExceptionHandlerBenchmark.class.getSimpleName())
+				.forks(1)
+				.build();
+
+		new Runner(opt).run();
+	}
+}
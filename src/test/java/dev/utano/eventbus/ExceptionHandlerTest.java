@@ -0,0 +1,105 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.event.TestEvent;
+import dev.utano.eventbus.event.priority.EventPriority;
+import dev.utano.eventbus.exception.CollectingExceptionHandler;
+import dev.utano.eventbus.exception.SubscriberExceptionHandlers;
+import dev.utano.eventbus.listener.EventListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExceptionHandlerTest {
+
+	@Test
+	public void rethrowByDefaultTest() {
+		FailingListener listener = new FailingListener();
+		EventBus eventBus = new EventBus().register(listener);
+
+		RuntimeException exception = assertThrows(RuntimeException.class, () -> eventBus.fireEvent(new TestEvent()));
+
+		assertInstanceOf(IllegalStateException.class, exception.getCause(), "The exception thrown by the handler should be the cause.");
+		assertTrue(exception.getMessage().contains(TestEvent.class.getName()), "The message should describe the event.");
+		assertEquals(Arrays.asList("before"), listener.calls, "Rethrowing should abort the dispatch.");
+	}
+
+	@Test
+	public void logAndContinueTest() {
+		FailingListener listener = new FailingListener();
+		Logger logger = Logger.getAnonymousLogger();
+		logger.setUseParentHandlers(false);
+		EventBus eventBus = new EventBus().register(listener).setExceptionHandler(SubscriberExceptionHandlers.logAndContinue(logger));
+
+		eventBus.fireEvent(new TestEvent());
+
+		assertEquals(Arrays.asList("before", "after"), listener.calls, "The handlers after the failing one should still be invoked.");
+	}
+
+	@Test
+	public void collectAndReportTest() {
+		FailingListener listener = new FailingListener();
+		CollectingExceptionHandler exceptionHandler = SubscriberExceptionHandlers.collect();
+		EventBus eventBus = new EventBus().register(listener).setExceptionHandler(exceptionHandler);
+
+		eventBus.fireEvent(new TestEvent());
+		eventBus.fireEvent(new TestEvent());
+
+		assertEquals(Arrays.asList("before", "after", "before", "after"), listener.calls, "The handlers after the failing one should still be invoked.");
+		RuntimeException reported = assertThrows(RuntimeException.class, exceptionHandler::report);
+		assertEquals(1, reported.getSuppressed().length, "Every collected exception should be reported.");
+		assertTrue(exceptionHandler.drain().isEmpty(), "Reporting should clear the collected exceptions.");
+	}
+
+	@Test
+	public void errorIsolationTest() {
+		List<String> calls = new ArrayList<>();
+		CollectingExceptionHandler exceptionHandler = SubscriberExceptionHandlers.collect();
+		EventBus eventBus = new EventBus().setExceptionHandler(exceptionHandler);
+		eventBus.register(new AssertingListener());
+		eventBus.subscribe(TestEvent.class, event -> calls.add("after"), EventPriority.HIGH, false);
+
+		eventBus.fireEvent(new TestEvent());
+
+		assertEquals(Arrays.asList("after"), calls, "The handlers after a handler throwing an error should still be invoked.");
+		List<RuntimeException> failures = exceptionHandler.drain();
+		assertEquals(1, failures.size(), "The error should be passed to the exception handler.");
+		assertInstanceOf(AssertionError.class, failures.get(0).getCause(), "The error thrown by the handler should be the cause.");
+	}
+
+	public static class AssertingListener implements EventListener {
+
+		@EventHandler
+		public void fail(TestEvent event) {
+			throw new AssertionError("Failing on purpose");
+		}
+
+	}
+
+	public static class FailingListener implements EventListener {
+
+		private final List<String> calls = new ArrayList<>();
+
+		@EventHandler(priority = EventPriority.LOW)
+		public void before(TestEvent event) {
+			calls.add("before");
+		}
+
+		@EventHandler
+		public void fail(TestEvent event) {
+			throw new IllegalStateException("Failing on purpose");
+		}
+
+		@EventHandler(priority = EventPriority.HIGH)
+		public void after(TestEvent event) {
+			calls.add("after");
+		}
+
+	}
+
+}
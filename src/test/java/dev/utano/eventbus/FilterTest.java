@@ -0,0 +1,144 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.event.TestEvent;
+import dev.utano.eventbus.filter.EventFilter;
+import dev.utano.eventbus.filter.KeyedEvent;
+import dev.utano.eventbus.listener.EventListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FilterTest {
+
+	@Test
+	public void annotationFilterTest() {
+		FilteredListener listener = new FilteredListener();
+		EventBus eventBus = new EventBus().register(listener);
+
+		for (int i = 0; i < 4; i++)
+			eventBus.fireEvent(new WorldEvent("world", i));
+
+		assertEquals(Arrays.asList(0, 2), listener.values, "Only the events passing the filter of the handler should be received.");
+	}
+
+	@Test
+	public void registerFilteredTest() {
+		RecordingListener listener = new RecordingListener();
+		EventBus eventBus = new EventBus();
+		Registration registration = eventBus.registerFiltered(listener, event -> !(event instanceof WorldEvent) || ((WorldEvent) event).value > 0);
+
+		eventBus.fireEvent(new WorldEvent("world", 0));
+		eventBus.fireEvent(new WorldEvent("world", 1));
+		eventBus.fireEvent(new TestEvent());
+
+		assertEquals(Collections.singletonList(1), listener.values, "Only the events passing the filter of the listener should be received.");
+		assertEquals(1, listener.testEvents, "Events passing the filter should be received by every handler.");
+		assertTrue(registration.isActive(), "The filtered registration should be active.");
+	}
+
+	@Test
+	public void keyedTest() {
+		RecordingListener first = new RecordingListener();
+		RecordingListener second = new RecordingListener();
+		RecordingListener unkeyed = new RecordingListener();
+		EventBus eventBus = new EventBus();
+		eventBus.registerKeyed(first, "first");
+		eventBus.registerKeyed(second, "second");
+		eventBus.register(unkeyed);
+
+		eventBus.fireEvent(new WorldEvent("first", 1));
+		eventBus.fireEvent(new WorldEvent("second", 2));
+		eventBus.fireEvent(new WorldEvent("third", 3));
+		eventBus.fireEvents(Arrays.asList(new WorldEvent("first", 4), new WorldEvent("second", 5)));
+		eventBus.fireEvent(new TestEvent());
+
+		assertEquals(Arrays.asList(1, 4), first.values, "A keyed listener should only receive the events of its key.");
+		assertEquals(Arrays.asList(2, 5), second.values, "A keyed listener should only receive the events of its key.");
+		assertEquals(Arrays.asList(1, 2, 3, 4, 5), unkeyed.values, "An unkeyed listener should receive every event.");
+		assertEquals(1, first.testEvents, "Events which are not keyed should be delivered to keyed listeners.");
+
+		HandlerChain handlerChain = eventBus.getSnapshot().getHandlerChain(WorldEvent.class);
+		assertEquals(2, handlerChain.getHandlers(new WorldEvent("first", 0)).length, "Only the handlers of the key and the unkeyed ones should be walked.");
+		assertEquals(1, handlerChain.getHandlers(new WorldEvent("third", 0)).length, "Only the unkeyed handlers should be walked for unknown keys.");
+	}
+
+	@Test
+	public void keyedBatchTest() {
+		RecordingListener first = new RecordingListener();
+		RecordingListener second = new RecordingListener();
+		RecordingListener unkeyed = new RecordingListener();
+		EventBus eventBus = new EventBus();
+		eventBus.registerKeyed(first, "first");
+		eventBus.registerKeyed(second, "second");
+		eventBus.register(unkeyed);
+
+		eventBus.fireEvents(Arrays.asList(new WorldEvent("first", 1), new WorldEvent("first", 2), new WorldEvent("second", 3),
+				new WorldEvent("third", 4), new WorldEvent("first", 5)));
+
+		assertEquals(Arrays.asList(1, 2, 5), first.values, "A keyed listener should only receive the batched events of its key, in order.");
+		assertEquals(Collections.singletonList(3), second.values, "A keyed listener should only receive the batched events of its key.");
+		assertEquals(Arrays.asList(1, 2, 3, 4, 5), unkeyed.values, "An unkeyed listener should receive every batched event in order.");
+	}
+
+	public static class WorldEvent extends Event implements KeyedEvent {
+
+		private final String world;
+		private final int value;
+
+		public WorldEvent(String world, int value) {
+			this.world = world;
+			this.value = value;
+		}
+
+		@Override
+		public Object getEventKey() {
+			return world;
+		}
+
+	}
+
+	public static class EvenFilter implements EventFilter<WorldEvent> {
+
+		@Override
+		public boolean test(WorldEvent event) {
+			return event.value % 2 == 0;
+		}
+
+	}
+
+	public static class FilteredListener implements EventListener {
+
+		private final List<Integer> values = new ArrayList<>();
+
+		@EventHandler(filter = EvenFilter.class)
+		public void onWorldEvent(WorldEvent event) {
+			values.add(event.value);
+		}
+
+	}
+
+	public static class RecordingListener implements EventListener {
+
+		private final List<Integer> values = new ArrayList<>();
+		private int testEvents;
+
+		@EventHandler
+		public void onWorldEvent(WorldEvent event) {
+			values.add(event.value);
+		}
+
+		@EventHandler(handleDerivatives = false)
+		public void onTestEvent(TestEvent event) {
+			testEvents++;
+		}
+
+	}
+
+}
@@ -0,0 +1,161 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.event.CancellableTestEvent;
+import dev.utano.eventbus.event.TestEvent;
+import dev.utano.eventbus.event.priority.EventPriority;
+import dev.utano.eventbus.listener.EventListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HandlerChainTest {
+
+	@Test
+	public void priorityOrderAcrossListenersTest() {
+		List<String> calls = new ArrayList<>();
+		EventBus eventBus = new EventBus()
+				.register(new FirstListener(calls))
+				.register(new SecondListener(calls));
+
+		eventBus.fireEvent(new TestEvent());
+
+		assertEquals(Arrays.asList("second-low", "first-normal", "second-normal", "first-monitor"), calls, "Handlers should be invoked by priority, then by registration order.");
+	}
+
+	@Test
+	public void handleDerivativesTest() {
+		List<String> calls = new ArrayList<>();
+		EventBus eventBus = new EventBus().register(new DerivativesListener(calls));
+
+		eventBus.fireEvent(new CancellableTestEvent());
+
+		assertEquals(Arrays.asList("derivatives", "exact-cancellable"), calls, "Only the exact and the derivatives handlers should be invoked.");
+	}
+
+	@Test
+	public void registrationInvalidatesChainTest() {
+		List<String> calls = new ArrayList<>();
+		EventBus eventBus = new EventBus().register(new FirstListener(calls));
+		eventBus.fireEvent(new TestEvent());
+
+		SecondListener secondListener = new SecondListener(calls);
+		eventBus.register(secondListener);
+		calls.clear();
+		eventBus.fireEvent(new TestEvent());
+		assertEquals(4, calls.size(), "The handlers of a newly registered listener should be invoked.");
+
+		eventBus.unregister(secondListener);
+		calls.clear();
+		eventBus.fireEvent(new TestEvent());
+		assertEquals(Arrays.asList("first-normal", "first-monitor"), calls, "The handlers of an unregistered listener should not be invoked.");
+	}
+
+	@Test
+	public void orderWithinPriorityTest() {
+		List<String> calls = new ArrayList<>();
+		EventBus eventBus = new EventBus()
+				.register(new OrderedListener(calls))
+				.register(new FirstListener(calls));
+
+		eventBus.fireEvent(new TestEvent());
+
+		assertEquals(Arrays.asList("ordered-early", "ordered-default", "first-normal", "ordered-late", "first-monitor"), calls,
+				"Handlers sharing a priority should be invoked by order, then by registration order.");
+	}
+
+	public static class FirstListener implements EventListener {
+
+		private final List<String> calls;
+
+		public FirstListener(List<String> calls) {
+			this.calls = calls;
+		}
+
+		@EventHandler(priority = EventPriority.MONITOR)
+		public void monitor(TestEvent event) {
+			calls.add("first-monitor");
+		}
+
+		@EventHandler
+		public void normal(TestEvent event) {
+			calls.add("first-normal");
+		}
+
+	}
+
+	public static class SecondListener implements EventListener {
+
+		private final List<String> calls;
+
+		public SecondListener(List<String> calls) {
+			this.calls = calls;
+		}
+
+		@EventHandler
+		public void normal(TestEvent event) {
+			calls.add("second-normal");
+		}
+
+		@EventHandler(priority = EventPriority.LOW)
+		public void low(TestEvent event) {
+			calls.add("second-low");
+		}
+
+	}
+
+	public static class DerivativesListener implements EventListener {
+
+		private final List<String> calls;
+
+		public DerivativesListener(List<String> calls) {
+			this.calls = calls;
+		}
+
+		@EventHandler(priority = EventPriority.LOWEST)
+		public void derivatives(CancellableTestEvent event) {
+			calls.add("derivatives");
+		}
+
+		@EventHandler(handleDerivatives = false)
+		public void exact(TestEvent event) {
+			calls.add("exact-test");
+		}
+
+		@EventHandler(priority = EventPriority.HIGH, handleDerivatives = false)
+		public void exactCancellable(CancellableTestEvent event) {
+			calls.add("exact-cancellable");
+		}
+
+	}
+
+	public static class OrderedListener implements EventListener {
+
+		private final List<String> calls;
+
+		public OrderedListener(List<String> calls) {
+			this.calls = calls;
+		}
+
+		@EventHandler(order = 10)
+		public void late(TestEvent event) {
+			calls.add("ordered-late");
+		}
+
+		@EventHandler
+		public void byDefault(TestEvent event) {
+			calls.add("ordered-default");
+		}
+
+		@EventHandler(order = -10)
+		public void early(TestEvent event) {
+			calls.add("ordered-early");
+		}
+
+	}
+
+}
@@ -0,0 +1,78 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.event.TestEvent;
+import dev.utano.eventbus.invoker.HandlerInvoker;
+import dev.utano.eventbus.invoker.HandlerInvokers;
+import dev.utano.eventbus.invoker.MethodHandleHandlerInvoker;
+import dev.utano.eventbus.invoker.ReflectiveHandlerInvoker;
+import dev.utano.eventbus.listener.EventListener;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HandlerInvokerBenchmark implements EventListener {
+
+	private HandlerInvoker reflectiveInvoker;
+	private HandlerInvoker methodHandleInvoker;
+	private HandlerInvoker generatedInvoker;
+	private Event event;
+
+	private int invocations;
+
+	@Setup(Level.Trial)
+	public void setup() throws ReflectiveOperationException {
+		Method method = HandlerInvokerBenchmark.class.getMethod("onTestEvent", TestEvent.class);
+		reflectiveInvoker = new ReflectiveHandlerInvoker(method);
+		methodHandleInvoker = new MethodHandleHandlerInvoker(method);
+		generatedInvoker = HandlerInvokers.create(method);
+		event = new TestEvent();
+	}
+
+	@Benchmark
+	public int benchmarkReflectiveInvoker() throws Exception {
+		reflectiveInvoker.invoke(this, event);
+		return invocations;
+	}
+
+	@Benchmark
+	public int benchmarkMethodHandleInvoker() throws Exception {
+		methodHandleInvoker.invoke(this, event);
+		return invocations;
+	}
+
+	@Benchmark
+	public int benchmarkGeneratedInvoker() throws Exception {
+		generatedInvoker.invoke(this, event);
+		return invocations;
+	}
+
+	@Benchmark
+	public int benchmarkDirectCall() {
+		onTestEvent((TestEvent) event);
+		return invocations;
+	}
+
+	@EventHandler
+	public void onTestEvent(TestEvent ignored) {
+		invocations++;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(HandlerInvokerBenchmark.class.getSimpleName())
+				.forks(1)
+				.build();
+
+		new Runner(opt).run();
+	}
+}
\ No newline at end of file
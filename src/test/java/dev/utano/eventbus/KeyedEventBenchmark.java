@@ -0,0 +1,98 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.filter.KeyedEvent;
+import dev.utano.eventbus.listener.EventListener;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares listeners checking the key of the event at the start of their handler against listeners registered
+ * through {@link EventBus#registerKeyed(EventListener, Object)}, each listener being interested in a different key.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KeyedEventBenchmark {
+
+	@Param({"100", "1000"})
+	public int listenerCount;
+
+	private EventBus checkingEventBus;
+	private EventBus keyedEventBus;
+	private Event event;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		checkingEventBus = new EventBus();
+		keyedEventBus = new EventBus();
+		for (int i = 0; i < listenerCount; i++) {
+			checkingEventBus.register(new CheckingListener(i));
+			keyedEventBus.registerKeyed(new KeyedListener(), i);
+		}
+		event = new EntityEvent(listenerCount / 2);
+	}
+
+	@Benchmark
+	public Event benchmarkCheckInHandler() {
+		return checkingEventBus.fireEvent(event);
+	}
+
+	@Benchmark
+	public Event benchmarkKeyed() {
+		return keyedEventBus.fireEvent(event);
+	}
+
+	public static class EntityEvent extends Event implements KeyedEvent {
+
+		private final Integer entityId;
+
+		public EntityEvent(int entityId) {
+			this.entityId = entityId;
+		}
+
+		@Override
+		public Object getEventKey() {
+			return entityId;
+		}
+
+	}
+
+	public static class CheckingListener implements EventListener {
+
+		private final Integer entityId;
+
+		public CheckingListener(int entityId) {
+			this.entityId = entityId;
+		}
+
+		@EventHandler
+		public void onEntityEvent(EntityEvent event) {
+			if (!entityId.equals(event.entityId)) return;
+		}
+
+	}
+
+	public static class KeyedListener implements EventListener {
+
+		@EventHandler
+		public void onEntityEvent(EntityEvent event) {
+		}
+
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(KeyedEventBenchmark.class.getSimpleName())
+				.forks(1)
+				.build();
+
+		new Runner(opt).run();
+	}
+}
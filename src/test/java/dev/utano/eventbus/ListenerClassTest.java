@@ -0,0 +1,46 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.event.TestEvent;
+import dev.utano.eventbus.listener.EventListener;
+import dev.utano.eventbus.listener.ListenerClass;
+import dev.utano.eventbus.listener.ListenerInstance;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ListenerClassTest {
+
+	@Test
+	public void sharedListenerClassTest() {
+		EventBus eventBus = new EventBus()
+				.register(new SharedListener())
+				.register(new SharedListener());
+
+		ListenerInstance[] listenerInstances = eventBus.getSnapshot().getListenerInstances();
+		assertSame(listenerInstances[0].getListenerClass(), listenerInstances[1].getListenerClass(), "Listeners of the same class should share their ListenerClass.");
+		assertSame(ListenerClass.of(SharedListener.class), listenerInstances[0].getListenerClass(), "Registered listeners should use the cached ListenerClass.");
+	}
+
+	@Test
+	public void sharedHandlersTest() {
+		SharedListener first = new SharedListener();
+		SharedListener second = new SharedListener();
+		new EventBus().register(first).register(second).fireEvent(new TestEvent());
+
+		assertEquals(1, first.invocations, "Every listener should receive the event once.");
+		assertEquals(1, second.invocations, "Every listener should receive the event once.");
+	}
+
+	public static class SharedListener implements EventListener {
+
+		private int invocations;
+
+		@EventHandler
+		public void onTestEvent(TestEvent event) {
+			invocations++;
+		}
+
+	}
+
+}
\ No newline at end of file
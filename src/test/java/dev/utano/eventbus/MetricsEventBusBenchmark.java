@@ -0,0 +1,76 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.event.TestEvent;
+import dev.utano.eventbus.listener.EventListener;
+import dev.utano.eventbus.metrics.JmxEventBusMetrics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of the dispatch metrics.
+ * {@code benchmarkMetricsDisabled} fires through an EventBus whose metrics have been enabled then disabled again,
+ * it should match {@code benchmarkNeverMetered}, as disabled metrics leave the invokers unwrapped.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MetricsEventBusBenchmark {
+
+	private EventBus neverMeteredEventBus;
+	private EventBus disabledEventBus;
+	private EventBus meteredEventBus;
+	private Event event;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		neverMeteredEventBus = new EventBus();
+		disabledEventBus = new EventBus().setMetrics(new JmxEventBusMetrics());
+		meteredEventBus = new EventBus().setMetrics(new JmxEventBusMetrics());
+		for (int i = 0; i < 16; i++) {
+			neverMeteredEventBus.register(new BenchmarkListener());
+			disabledEventBus.register(new BenchmarkListener());
+			meteredEventBus.register(new BenchmarkListener());
+		}
+		disabledEventBus.setMetrics(null);
+		event = new TestEvent();
+	}
+
+	@Benchmark
+	public Event benchmarkNeverMetered() {
+		return neverMeteredEventBus.fireEvent(event);
+	}
+
+	@Benchmark
+	public Event benchmarkMetricsDisabled() {
+		return disabledEventBus.fireEvent(event);
+	}
+
+	@Benchmark
+	public Event benchmarkMetricsEnabled() {
+		return meteredEventBus.fireEvent(event);
+	}
+
+	public static class BenchmarkListener implements EventListener {
+
+		@EventHandler
+		public void onTestEvent(TestEvent ignored) {
+		}
+
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(MetricsEventBusBenchmark.class.getSimpleName())
+				.forks(1)
+				.build();
+
+		new Runner(opt).run();
+	}
+}
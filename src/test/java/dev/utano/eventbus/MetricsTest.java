@@ -0,0 +1,139 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.event.CancellableTestEvent;
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.event.TestEvent;
+import dev.utano.eventbus.listener.EventListener;
+import dev.utano.eventbus.metrics.JmxEventBusMetrics;
+import dev.utano.eventbus.metrics.MeteredHandlerInvoker;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MetricsTest {
+
+	private static final String HANDLER = MetricsListener.class.getName() + "#onCancellableEvent(" + CancellableTestEvent.class.getName() + ")";
+
+	@Test
+	public void disabledMetricsDoNotWrapInvokersTest() {
+		EventBus eventBus = new EventBus().register(new MetricsListener());
+
+		for (ListenerHandler listenerHandler : eventBus.getSnapshot().getHandlerChain(TestEvent.class).handlers)
+			assertSame(listenerHandler.getHandlerMethod().getInvoker(), listenerHandler.getInvoker(), "Invokers should not be wrapped when metrics are disabled.");
+	}
+
+	@Test
+	public void recordsFiresAndCancellationsTest() throws NoSuchMethodException {
+		JmxEventBusMetrics metrics = new JmxEventBusMetrics();
+		EventBus eventBus = new EventBus().register(new MetricsListener()).setMetrics(metrics);
+
+		for (ListenerHandler listenerHandler : eventBus.getSnapshot().getHandlerChain(CancellableTestEvent.class).handlers)
+			assertInstanceOf(MeteredHandlerInvoker.class, listenerHandler.getInvoker(), "Invokers should be wrapped when metrics are enabled.");
+
+		CancellableTestEvent cancelled = new CancellableTestEvent();
+		cancelled.setMonitored(true);
+		eventBus.fireEvent(cancelled);
+		eventBus.fireEvent(new CancellableTestEvent());
+
+		assertEquals(2L, metrics.getEventFireCounts().get(CancellableTestEvent.class.getName()), "Every fired event should be counted.");
+		assertEquals(0.5, metrics.getEventCancellationRates().get(CancellableTestEvent.class.getName()), "Half of the events should be cancelled.");
+		assertEquals(2L, metrics.getHandlerInvocationCounts().get(HANDLER), "Every invocation of the handler should be counted.");
+		assertEquals(2, metrics.getHandlerLatency(MetricsListener.class.getMethod("onCancellableEvent", CancellableTestEvent.class)).getCount(), "The latencies of the handler should be recorded.");
+	}
+
+	@Test
+	public void recordsFailuresTest() {
+		JmxEventBusMetrics metrics = new JmxEventBusMetrics();
+		EventBus eventBus = new EventBus().register(new MetricsListener()).setMetrics(metrics);
+
+		assertThrows(RuntimeException.class, () -> eventBus.fireEvent(new TestEvent()));
+
+		Map<String, Long> failures = metrics.getHandlerFailureCounts();
+		assertEquals(1L, failures.get(MetricsListener.class.getName() + "#onTestEvent(" + TestEvent.class.getName() + ")"), "The failure of the handler should be counted.");
+	}
+
+	@Test
+	public void subscriptionsReportSeparatelyTest() {
+		JmxEventBusMetrics metrics = new JmxEventBusMetrics();
+		EventBus eventBus = new EventBus().setMetrics(metrics);
+		eventBus.subscribe(CancellableTestEvent.class, event -> {
+		});
+		eventBus.subscribe(CancellableTestEvent.class, event -> event.setMonitored(true));
+		eventBus.fireEvent(new CancellableTestEvent());
+
+		Map<String, Long> invocations = metrics.getHandlerInvocationCounts();
+		assertEquals(2, invocations.size(), "Each subscription should report its own metrics.");
+		for (String handler : invocations.keySet())
+			assertTrue(handler.startsWith(MetricsTest.class.getName()), "Subscriptions should be described by the class of their consumer, got " + handler + ".");
+	}
+
+	@Test
+	public void sameSimpleNameTest() {
+		JmxEventBusMetrics metrics = new JmxEventBusMetrics();
+		EventBus eventBus = new EventBus().register(new OverloadedListener()).setMetrics(metrics);
+		eventBus.fireEvent(new First.SampleEvent());
+		eventBus.fireEvent(new Second.SampleEvent());
+
+		Map<String, Long> invocations = metrics.getHandlerInvocationCounts();
+		assertEquals(1L, invocations.get(OverloadedListener.class.getName() + "#onSampleEvent(" + First.SampleEvent.class.getName() + ")"), "Handlers of same-named event classes should be counted separately.");
+		assertEquals(1L, invocations.get(OverloadedListener.class.getName() + "#onSampleEvent(" + Second.SampleEvent.class.getName() + ")"), "Handlers of same-named event classes should be counted separately.");
+	}
+
+	@Test
+	public void disablingMetricsUnwrapsInvokersTest() {
+		JmxEventBusMetrics metrics = new JmxEventBusMetrics();
+		EventBus eventBus = new EventBus().register(new MetricsListener()).setMetrics(metrics);
+		eventBus.fireEvent(new CancellableTestEvent());
+
+		eventBus.setMetrics(null);
+		eventBus.fireEvent(new CancellableTestEvent());
+
+		assertNull(eventBus.getMetrics(), "Metrics should be disabled.");
+		assertEquals(1L, metrics.getEventFireCounts().get(CancellableTestEvent.class.getName()), "Events fired after disabling the metrics should not be counted.");
+	}
+
+	public static class First {
+
+		public static class SampleEvent extends Event {
+		}
+
+	}
+
+	public static class Second {
+
+		public static class SampleEvent extends Event {
+		}
+
+	}
+
+	public static class OverloadedListener implements EventListener {
+
+		@EventHandler
+		public void onSampleEvent(First.SampleEvent event) {
+		}
+
+		@EventHandler
+		public void onSampleEvent(Second.SampleEvent event) {
+		}
+
+	}
+
+	public static class MetricsListener implements EventListener {
+
+		@EventHandler(handleDerivatives = false)
+		public void onTestEvent(TestEvent event) {
+			throw new IllegalStateException("Failing on purpose");
+		}
+
+		@EventHandler
+		public void onCancellableEvent(CancellableTestEvent event) {
+			if (event.isMonitored())
+				event.setCancelled(true);
+		}
+
+	}
+
+}
@@ -0,0 +1,81 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.event.TestEvent;
+import dev.utano.eventbus.listener.EventListener;
+import dev.utano.eventbus.queue.EventPartition;
+import dev.utano.eventbus.queue.PartitionedEventQueue;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures the throughput of a {@link PartitionedEventQueue} where every thread posts a tick worth of events
+ * to its own partition, then drains it. Run with {@code -t} set to the number of partitions to see the scaling.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PartitionedQueueBenchmark {
+
+	private static final int EVENTS_PER_TICK = 64;
+
+	@Param({"4"})
+	public int partitions;
+
+	private PartitionedEventQueue queue;
+	private final AtomicInteger nextPartition = new AtomicInteger();
+
+	@Setup(Level.Trial)
+	public void setup() {
+		EventBus eventBus = new EventBus();
+		for (int i = 0; i < 16; i++)
+			eventBus.register(new BenchmarkListener());
+		queue = new PartitionedEventQueue(eventBus, partitions);
+	}
+
+	@State(Scope.Thread)
+	public static class PartitionState {
+
+		private EventPartition partition;
+		private final Event event = new TestEvent();
+
+		@Setup(Level.Trial)
+		public void setup(PartitionedQueueBenchmark benchmark) {
+			partition = benchmark.queue.getPartitionFor(benchmark.nextPartition.getAndIncrement());
+		}
+
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(EVENTS_PER_TICK)
+	public int postAndDrain(PartitionState state) {
+		for (int i = 0; i < EVENTS_PER_TICK; i++)
+			state.partition.post(state.event);
+		return state.partition.drain();
+	}
+
+	public static class BenchmarkListener implements EventListener {
+
+		@EventHandler
+		public void onTestEvent(TestEvent ignored) {
+		}
+
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(PartitionedQueueBenchmark.class.getSimpleName())
+				.threads(4)
+				.forks(1)
+				.build();
+
+		new Runner(opt).run();
+	}
+}
@@ -0,0 +1,73 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.event.TestEvent;
+import dev.utano.eventbus.listener.EventListener;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the churn of a listener registered and unregistered while {@code listenerCount} listeners stay registered,
+ * comparing {@link EventBus#unregister(EventListener)} against closing a {@link Registration}.
+ * The churn is followed by a fire, so that the cost of rebuilding the handler chains is accounted for.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RegistrationChurnBenchmark {
+
+	@Param({"1000", "10000"})
+	private int listenerCount;
+
+	private EventBus eventBus;
+	private Event event;
+	private EventListener churningListener;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		eventBus = new EventBus();
+		for (int i = 0; i < listenerCount; i++)
+			eventBus.register(new BenchmarkListener());
+		event = new TestEvent();
+		churningListener = new BenchmarkListener();
+	}
+
+	@Benchmark
+	public Event benchmarkUnregisterListener() {
+		eventBus.register(churningListener);
+		eventBus.fireEvent(event);
+		eventBus.unregister(churningListener);
+		return eventBus.fireEvent(event);
+	}
+
+	@Benchmark
+	public Event benchmarkCloseRegistration() {
+		Registration registration = eventBus.registerHandle(churningListener);
+		eventBus.fireEvent(event);
+		registration.close();
+		return eventBus.fireEvent(event);
+	}
+
+	public static class BenchmarkListener implements EventListener {
+
+		@EventHandler
+		public void onTestEvent(TestEvent ignored) {
+		}
+
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(RegistrationChurnBenchmark.class.getSimpleName())
+				.forks(1)
+				.build();
+
+		new Runner(opt).run();
+	}
+}
@@ -0,0 +1,113 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.event.TestEvent;
+import dev.utano.eventbus.listener.EventListener;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RegistrationTest {
+
+	@Test
+	public void closeUnregistersTest() {
+		AtomicInteger invocations = new AtomicInteger();
+		EventBus eventBus = new EventBus();
+		Registration registration = eventBus.registerHandle(new CountingListener(invocations));
+
+		eventBus.fireEvent(new TestEvent());
+		assertTrue(registration.isActive(), "The registration should be active until closed.");
+
+		registration.close();
+		registration.close();
+		eventBus.fireEvent(new TestEvent());
+
+		assertEquals(1, invocations.get(), "A closed registration should no longer be invoked.");
+		assertFalse(registration.isActive(), "The registration should no longer be active.");
+	}
+
+	@Test
+	public void removedListenersArePurgedTest() {
+		AtomicInteger invocations = new AtomicInteger();
+		EventBus eventBus = new EventBus();
+		List<Registration> registrations = new ArrayList<>();
+		for (int i = 0; i < 100; i++)
+			registrations.add(eventBus.registerHandle(new CountingListener(invocations)));
+
+		for (int i = 0; i < 50; i++)
+			registrations.get(i).close();
+		assertTrue(eventBus.getSnapshot().size() < 100, "Removed listeners should be purged once they are numerous enough.");
+
+		eventBus.purgeCollected();
+		assertEquals(50, eventBus.getSnapshot().size(), "All the removed listeners should be purged.");
+
+		eventBus.fireEvent(new TestEvent());
+		assertEquals(50, invocations.get(), "Only the remaining listeners should be invoked.");
+	}
+
+	@Test
+	public void bulkUnregistrationTest() {
+		AtomicInteger invocations = new AtomicInteger();
+		EventBus eventBus = new EventBus();
+		Registration registration = eventBus.registerHandle(new CountingListener(invocations));
+		eventBus.register(new CountingListener(invocations));
+
+		eventBus.unregister(CountingListener.class);
+		assertEquals(0, eventBus.getSnapshot().size(), "All the listeners of the class should be unregistered.");
+		assertFalse(registration.isActive(), "Registrations of unregistered listeners should no longer be active.");
+
+		eventBus.register(new CountingListener(invocations));
+		eventBus.unregisterAll(CountingListener.class.getClassLoader());
+		assertEquals(0, eventBus.getSnapshot().size(), "All the listeners of the class loader should be unregistered.");
+	}
+
+	@Test
+	public void classLoaderUnregistrationTest() throws IOException {
+		AtomicInteger invocations = new AtomicInteger();
+		EventBus eventBus = new EventBus();
+		try (URLClassLoader pluginLoader = new URLClassLoader(new URL[0], getClass().getClassLoader())) {
+			// The proxy class is defined by the plugin class loader, like the lambdas of a plugin
+			@SuppressWarnings("unchecked")
+			Consumer<TestEvent> pluginConsumer = (Consumer<TestEvent>) Proxy.newProxyInstance(pluginLoader, new Class<?>[]{Consumer.class}, (proxy, method, args) -> {
+				if (method.getName().equals("accept"))
+					invocations.incrementAndGet();
+				return null;
+			});
+			eventBus.subscribe(TestEvent.class, pluginConsumer);
+			eventBus.subscribe(TestEvent.class, event -> invocations.addAndGet(10));
+
+			eventBus.unregisterAll(getClass().getClassLoader());
+			assertEquals(1, eventBus.getSnapshot().size(), "Only the subscriptions of the class loader should be unregistered.");
+			eventBus.fireEvent(new TestEvent());
+			assertEquals(1, invocations.get(), "The subscription of the plugin should remain.");
+
+			eventBus.unregisterAll(pluginLoader);
+			assertEquals(0, eventBus.getSnapshot().size(), "The subscription of the plugin should be unregistered with its class loader.");
+		}
+	}
+
+	public static class CountingListener implements EventListener {
+
+		private final AtomicInteger invocations;
+
+		public CountingListener(AtomicInteger invocations) {
+			this.invocations = invocations;
+		}
+
+		@EventHandler
+		public void onTestEvent(TestEvent event) {
+			invocations.incrementAndGet();
+		}
+
+	}
+
+}
@@ -0,0 +1,225 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.event.Cancellable;
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.event.HierarchyEvents;
+import dev.utano.eventbus.event.priority.EventPriority;
+import dev.utano.eventbus.listener.EventListener;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the EventBus at the scale of a real server: many listeners, several handlers per listener,
+ * deep event hierarchies and a mix of {@code handleDerivatives}, {@code ignoreCancelled} and priorities.
+ * <p>
+ * The {@code fireContended} benchmark fires from {@value #CONTENDED_THREADS} threads sharing the same EventBus,
+ * run the suite with {@code -t} to change the thread count of the other benchmarks.
+ * Run {@code mvn -P benchmark} to run the suite and write the results to {@code target/jmh-result.json},
+ * which {@code Performance.py} reads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScaleEventBusBenchmark {
+
+	public static final int CONTENDED_THREADS = 4;
+	private static final int EVENT_COUNT = 1024;
+
+	@Param({"10", "100", "1000"})
+	private int listenerCount;
+
+	@Param({"1", "4", "8"})
+	private int handlersPerListener;
+
+	@Param({"1", "4", "8"})
+	private int hierarchyDepth;
+
+	@Param({"0", "50", "100"})
+	private int cancellablePercentage;
+
+	private EventBus eventBus;
+	private Event[] events;
+	private EventListener churningListener;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		eventBus = new EventBus();
+		List<EventListener> listeners = new ArrayList<>(listenerCount);
+		for (int i = 0; i < listenerCount; i++)
+			listeners.add(createListener());
+		eventBus.registerAll(listeners);
+		churningListener = createListener();
+
+		// A fixed seed, so that every run fires the same sequence of events
+		Random random = new Random(4316);
+		events = new Event[EVENT_COUNT];
+		for (int i = 0; i < EVENT_COUNT; i++) {
+			events[i] = HierarchyEvents.create(hierarchyDepth, random.nextInt(100) < cancellablePercentage);
+			// Half of the cancellable events are cancelled, so that ignoreCancelled handlers are skipped
+			if (events[i] instanceof Cancellable && random.nextBoolean())
+				((Cancellable) events[i]).setCancelled(true);
+		}
+	}
+
+	@Benchmark
+	public Event fire(EventCursor cursor) {
+		return eventBus.fireEvent(events[cursor.next()]);
+	}
+
+	@Benchmark
+	@Threads(CONTENDED_THREADS)
+	public Event fireContended(EventCursor cursor) {
+		return eventBus.fireEvent(events[cursor.next()]);
+	}
+
+	@Benchmark
+	public EventBus registerAndUnregister() {
+		eventBus.register(churningListener);
+		eventBus.unregister(churningListener);
+		return eventBus;
+	}
+
+	private EventListener createListener() {
+		switch (handlersPerListener) {
+			case 1:
+				return new OneHandlerListener();
+			case 4:
+				return new FourHandlersListener();
+			case 8:
+				return new EightHandlersListener();
+			default:
+				throw new IllegalArgumentException("Unsupported handler count: " + handlersPerListener);
+		}
+	}
+
+	/**
+	 * The index of the next event fired by a thread.
+	 */
+	@State(Scope.Thread)
+	public static class EventCursor {
+
+		private int index;
+
+		public int next() {
+			index = (index + 1) & (EVENT_COUNT - 1);
+			return index;
+		}
+
+	}
+
+	/**
+	 * Handles the first level of both chains, the subclasses add the handlers of the deeper levels.
+	 * {@code handlersPerListener} counts the handled levels, each level having a handler in both chains.
+	 */
+	public static class OneHandlerListener implements EventListener {
+
+		protected int invocations;
+
+		@EventHandler(priority = EventPriority.LOWEST, handleDerivatives = true)
+		public void onLevel0(HierarchyEvents.Level0 event) {
+			invocations++;
+		}
+
+		@EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = false)
+		public void onCancellableLevel0(HierarchyEvents.CancellableLevel0 event) {
+			invocations++;
+		}
+
+	}
+
+	public static class FourHandlersListener extends OneHandlerListener {
+
+		@EventHandler(priority = EventPriority.LOW, handleDerivatives = false)
+		public void onLevel1(HierarchyEvents.Level1 event) {
+			invocations++;
+		}
+
+		@EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
+		public void onCancellableLevel1(HierarchyEvents.CancellableLevel1 event) {
+			invocations++;
+		}
+
+		@EventHandler(priority = EventPriority.NORMAL, handleDerivatives = true)
+		public void onLevel2(HierarchyEvents.Level2 event) {
+			invocations++;
+		}
+
+		@EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = false)
+		public void onCancellableLevel2(HierarchyEvents.CancellableLevel2 event) {
+			invocations++;
+		}
+
+		@EventHandler(priority = EventPriority.HIGH, handleDerivatives = false)
+		public void onLevel3(HierarchyEvents.Level3 event) {
+			invocations++;
+		}
+
+		@EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+		public void onCancellableLevel3(HierarchyEvents.CancellableLevel3 event) {
+			invocations++;
+		}
+
+	}
+
+	public static class EightHandlersListener extends FourHandlersListener {
+
+		@EventHandler(priority = EventPriority.HIGHEST, handleDerivatives = true)
+		public void onLevel4(HierarchyEvents.Level4 event) {
+			invocations++;
+		}
+
+		@EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = false)
+		public void onCancellableLevel4(HierarchyEvents.CancellableLevel4 event) {
+			invocations++;
+		}
+
+		@EventHandler(priority = EventPriority.LOW, handleDerivatives = false)
+		public void onLevel5(HierarchyEvents.Level5 event) {
+			invocations++;
+		}
+
+		@EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
+		public void onCancellableLevel5(HierarchyEvents.CancellableLevel5 event) {
+			invocations++;
+		}
+
+		@EventHandler(priority = EventPriority.NORMAL, handleDerivatives = true)
+		public void onLevel6(HierarchyEvents.Level6 event) {
+			invocations++;
+		}
+
+		@EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = false)
+		public void onCancellableLevel6(HierarchyEvents.CancellableLevel6 event) {
+			invocations++;
+		}
+
+		@EventHandler(priority = EventPriority.MONITOR, handleDerivatives = false)
+		public void onLevel7(HierarchyEvents.Level7 event) {
+			invocations++;
+		}
+
+		@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+		public void onCancellableLevel7(HierarchyEvents.CancellableLevel7 event) {
+			invocations++;
+		}
+
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(ScaleEventBusBenchmark.class.getSimpleName())
+				.forks(1)
+				.build();
+
+		new Runner(opt).run();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,151 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.event.CancellableTestEvent;
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.event.TestEvent;
+import dev.utano.eventbus.exception.SubscriberExceptionHandlers;
+import dev.utano.eventbus.listener.EventListener;
+import dev.utano.eventbus.sticky.StickyEventCache;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StickyTest {
+
+	@Test
+	public void lateListenerReceivesStickyEventTest() {
+		EventBus eventBus = new EventBus();
+		TestEvent first = eventBus.postSticky(new TestEvent());
+		TestEvent latest = eventBus.postSticky(new TestEvent());
+
+		StickyListener listener = new StickyListener();
+		eventBus.register(listener);
+
+		assertEquals(1, listener.stickyEvents.size(), "Only the latest sticky event of a class should be delivered.");
+		assertSame(latest, listener.stickyEvents.get(0), "The latest sticky event should be delivered.");
+		assertNotSame(first, listener.stickyEvents.get(0), "Replaced sticky events should not be delivered.");
+		assertTrue(listener.regularEvents.isEmpty(), "Non-sticky handlers should not receive the sticky events.");
+
+		eventBus.fireEvent(new TestEvent());
+		assertEquals(2, listener.stickyEvents.size(), "Sticky handlers should keep receiving fired events.");
+	}
+
+	@Test
+	public void asyncStickyEventTest() throws Exception {
+		EventBus eventBus = new EventBus().setExceptionHandler(SubscriberExceptionHandlers.rethrow());
+		eventBus.register(new AsyncListener());
+		CancellableTestEvent event = eventBus.fireEventAsync(new CancellableTestEvent()).get();
+		eventBus.postSticky(event);
+		assertTrue(event.isSealed(), "The asynchronous handlers should seal the event.");
+
+		CancellingStickyListener listener = new CancellingStickyListener();
+		eventBus.register(listener);
+		assertTrue(listener.cancelled, "Sticky handlers should be able to cancel an event sealed by a previous dispatch.");
+		assertFalse(event.isCancelled(), "The cancellation of a late listener should not be kept by the cached event.");
+		assertTrue(event.isSealed(), "The cached event should be sealed again once delivered.");
+
+		eventBus.fireEvent(event);
+		assertTrue(event.isCancelled(), "Re-firing the event should let the synchronous handlers cancel it again.");
+	}
+
+	@Test
+	public void lateListenersIsolationTest() {
+		List<Runnable> tasks = new ArrayList<>();
+		EventBus eventBus = new EventBus(tasks::add).setExceptionHandler(SubscriberExceptionHandlers.rethrow());
+		CancellableTestEvent event = eventBus.postSticky(new CancellableTestEvent());
+
+		eventBus.register(new CancellingStickyListener());
+		IgnoringStickyListener listener = new IgnoringStickyListener();
+		eventBus.register(listener);
+		assertEquals(1, listener.syncEvents, "A late listener cancelling the event should not hide it from the next ones.");
+		assertEquals(0, listener.asyncEvents.get(), "Asynchronous sticky handlers should not be invoked on the registering thread.");
+		assertEquals(1, tasks.size(), "Asynchronous sticky handlers should be submitted to the executor.");
+		assertTrue(event.isSealed(), "The event should be sealed for the asynchronous sticky handlers.");
+
+		tasks.forEach(Runnable::run);
+		assertEquals(1, listener.asyncEvents.get(), "The executor should invoke the asynchronous sticky handler.");
+	}
+
+	@Test
+	public void evictionTest() {
+		EventBus eventBus = new EventBus();
+		eventBus.postSticky(new TestEvent());
+		eventBus.getStickyEvents().remove(TestEvent.class);
+
+		StickyListener listener = new StickyListener();
+		eventBus.register(listener);
+		assertTrue(listener.stickyEvents.isEmpty(), "Evicted sticky events should not be delivered.");
+	}
+
+	@Test
+	public void boundedCacheTest() {
+		StickyEventCache cache = new StickyEventCache(1);
+		cache.put(new TestEvent());
+		CancellableTestEvent latest = new CancellableTestEvent();
+		cache.put(latest);
+
+		assertEquals(1, cache.size(), "The cache should not exceed its maximum size.");
+		assertNull(cache.get(TestEvent.class), "The least recently posted event should be evicted.");
+		assertSame(latest, cache.get(CancellableTestEvent.class), "The most recently posted event should be kept.");
+	}
+
+	public static class AsyncListener implements EventListener {
+
+		@EventHandler(async = true)
+		public void onCancellableTestEvent(CancellableTestEvent ignored) {
+		}
+
+	}
+
+	public static class CancellingStickyListener implements EventListener {
+
+		private boolean cancelled;
+
+		@EventHandler(sticky = true)
+		public void onCancellableTestEvent(CancellableTestEvent event) {
+			event.setCancelled(true);
+			cancelled = event.isCancelled();
+		}
+
+	}
+
+	public static class IgnoringStickyListener implements EventListener {
+
+		private final AtomicInteger asyncEvents = new AtomicInteger();
+		private int syncEvents;
+
+		@EventHandler(sticky = true, ignoreCancelled = true)
+		public void onCancellableTestEvent(CancellableTestEvent event) {
+			syncEvents++;
+		}
+
+		@EventHandler(sticky = true, ignoreCancelled = true, async = true)
+		public void onAsyncCancellableTestEvent(CancellableTestEvent event) {
+			asyncEvents.incrementAndGet();
+		}
+
+	}
+
+	public static class StickyListener implements EventListener {
+
+		private final List<Event> stickyEvents = new ArrayList<>();
+		private final List<Event> regularEvents = new ArrayList<>();
+
+		@EventHandler(sticky = true, handleDerivatives = false)
+		public void onStickyEvent(TestEvent event) {
+			stickyEvents.add(event);
+		}
+
+		@EventHandler(handleDerivatives = false)
+		public void onRegularEvent(TestEvent event) {
+			regularEvents.add(event);
+		}
+
+	}
+
+}
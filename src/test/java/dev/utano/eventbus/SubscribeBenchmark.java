@@ -0,0 +1,84 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.event.TestEvent;
+import dev.utano.eventbus.listener.EventListener;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares functional subscriptions made through {@link EventBus#subscribe(Class, java.util.function.Consumer)}
+ * against annotated listeners, both to fire events and to register then unregister a handler.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SubscribeBenchmark {
+
+	private EventBus annotatedEventBus;
+	private EventBus subscribedEventBus;
+	private EventBus churnEventBus;
+	private Event event;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		annotatedEventBus = new EventBus();
+		subscribedEventBus = new EventBus();
+		churnEventBus = new EventBus();
+		for (int i = 0; i < 16; i++) {
+			annotatedEventBus.register(new BenchmarkListener());
+			subscribedEventBus.subscribe(TestEvent.class, ignored -> {
+			});
+		}
+		event = new TestEvent();
+	}
+
+	@Benchmark
+	public Event benchmarkFireAnnotated() {
+		return annotatedEventBus.fireEvent(event);
+	}
+
+	@Benchmark
+	public Event benchmarkFireSubscribed() {
+		return subscribedEventBus.fireEvent(event);
+	}
+
+	@Benchmark
+	public void benchmarkRegisterAnnotated(Blackhole blackhole) {
+		Registration registration = churnEventBus.registerHandle(new BenchmarkListener());
+		blackhole.consume(churnEventBus.fireEvent(event));
+		registration.close();
+	}
+
+	@Benchmark
+	public void benchmarkRegisterSubscribed(Blackhole blackhole) {
+		Registration registration = churnEventBus.subscribe(TestEvent.class, ignored -> {
+		});
+		blackhole.consume(churnEventBus.fireEvent(event));
+		registration.close();
+	}
+
+	public static class BenchmarkListener implements EventListener {
+
+		@EventHandler
+		public void onTestEvent(TestEvent ignored) {
+		}
+
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(SubscribeBenchmark.class.getSimpleName())
+				.forks(1)
+				.build();
+
+		new Runner(opt).run();
+	}
+}
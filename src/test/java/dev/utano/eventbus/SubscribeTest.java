@@ -0,0 +1,77 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.event.CancellableTestEvent;
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.event.TestEvent;
+import dev.utano.eventbus.event.priority.EventPriority;
+import dev.utano.eventbus.listener.EventListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SubscribeTest {
+
+	@Test
+	public void priorityTest() {
+		List<String> calls = new ArrayList<>();
+		EventBus eventBus = new EventBus();
+		eventBus.subscribe(TestEvent.class, event -> calls.add("high"), EventPriority.HIGH, false);
+		eventBus.register(new RecordingListener(calls));
+		eventBus.subscribe(Event.class, event -> calls.add("low"), EventPriority.LOW, false);
+
+		eventBus.fireEvent(new TestEvent());
+
+		assertEquals(Arrays.asList("low", "normal", "high"), calls, "Subscriptions should be ordered by priority along with annotated handlers.");
+	}
+
+	@Test
+	public void ignoreCancelledTest() {
+		List<String> calls = new ArrayList<>();
+		EventBus eventBus = new EventBus();
+		eventBus.subscribe(CancellableTestEvent.class, event -> event.setCancelled(true), EventPriority.LOW, false);
+		eventBus.subscribe(CancellableTestEvent.class, event -> calls.add("ignoring"), EventPriority.NORMAL, true);
+		eventBus.subscribe(CancellableTestEvent.class, event -> calls.add("receiving"), EventPriority.HIGH, false);
+
+		eventBus.fireEvent(new CancellableTestEvent());
+
+		assertEquals(Collections.singletonList("receiving"), calls, "Subscriptions ignoring cancelled events should be skipped.");
+	}
+
+	@Test
+	public void closeTest() {
+		List<TestEvent> events = new ArrayList<>();
+		EventBus eventBus = new EventBus();
+		Registration registration = eventBus.subscribe(TestEvent.class, events::add);
+
+		TestEvent first = eventBus.fireEvent(new TestEvent());
+		registration.close();
+		eventBus.fireEvent(new TestEvent());
+		eventBus.purgeCollected();
+
+		assertEquals(Collections.singletonList(first), events, "Closed subscriptions should no longer receive events.");
+		assertFalse(registration.isActive(), "The subscription should be inactive once closed.");
+		assertFalse(eventBus.hasListeners(TestEvent.class), "Closed subscriptions should not be reported as listeners once purged.");
+	}
+
+	public static class RecordingListener implements EventListener {
+
+		private final List<String> calls;
+
+		public RecordingListener(List<String> calls) {
+			this.calls = calls;
+		}
+
+		@EventHandler
+		public void onTestEvent(TestEvent event) {
+			calls.add("normal");
+		}
+
+	}
+
+}
@@ -0,0 +1,74 @@
+package dev.utano.eventbus;
+
+import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.event.TestEvent;
+import dev.utano.eventbus.listener.EventListener;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WeakListenerTest {
+
+	@Test
+	public void weakListenerIsInvokedWhileReachableTest() {
+		AtomicInteger invocations = new AtomicInteger();
+		CountingListener listener = new CountingListener(invocations);
+		EventBus eventBus = new EventBus().registerWeak(listener);
+
+		eventBus.fireEvent(new TestEvent());
+
+		assertEquals(1, invocations.get(), "A reachable weak listener should be invoked.");
+		assertTrue(eventBus.getSnapshot().getListenerInstances()[0].isWeak(), "The listener should be registered weakly.");
+
+		eventBus.unregister(listener);
+		assertEquals(0, eventBus.getSnapshot().size(), "A weak listener should be unregistrable.");
+	}
+
+	@Test
+	public void collectedListenerIsPurgedTest() throws InterruptedException {
+		AtomicInteger invocations = new AtomicInteger();
+		EventBus eventBus = new EventBus();
+		WeakReference<EventListener> reference = registerUnreachable(eventBus, invocations);
+
+		for (int i = 0; i < 50 && reference.get() != null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		assertNull(reference.get(), "The weak listener should have been garbage collected.");
+
+		eventBus.fireEvent(new TestEvent());
+		assertEquals(0, invocations.get(), "A collected listener should not be invoked.");
+
+		// The reference may be enqueued slightly after being cleared
+		for (int i = 0; i < 50 && eventBus.getSnapshot().size() != 0; i++) {
+			eventBus.purgeCollected();
+			Thread.sleep(10);
+		}
+		assertEquals(0, eventBus.getSnapshot().size(), "The collected listener should be purged.");
+	}
+
+	private static WeakReference<EventListener> registerUnreachable(EventBus eventBus, AtomicInteger invocations) {
+		CountingListener listener = new CountingListener(invocations);
+		eventBus.registerWeak(listener);
+		return new WeakReference<>(listener);
+	}
+
+	public static class CountingListener implements EventListener {
+
+		private final AtomicInteger invocations;
+
+		public CountingListener(AtomicInteger invocations) {
+			this.invocations = invocations;
+		}
+
+		@EventHandler
+		public void onTestEvent(TestEvent event) {
+			invocations.incrementAndGet();
+		}
+
+	}
+
+}
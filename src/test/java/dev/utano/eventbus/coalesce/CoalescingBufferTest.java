@@ -0,0 +1,143 @@
+package dev.utano.eventbus.coalesce;
+
+import dev.utano.eventbus.EventBus;
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.event.TestEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CoalescingBufferTest {
+
+	@Test
+	public void coalesceTest() {
+		List<Event> fired = new ArrayList<>();
+		EventBus eventBus = new EventBus();
+		eventBus.subscribe(Event.class, fired::add);
+		CoalescingBuffer buffer = new CoalescingBuffer(eventBus);
+
+		for (int i = 1; i <= 3; i++) {
+			buffer.post(new HealthChangeEvent(1, i));
+			buffer.post(new HealthChangeEvent(2, i * 10));
+		}
+		TestEvent immediate = new TestEvent();
+		buffer.post(immediate);
+
+		assertEquals(Collections.singletonList(immediate), fired, "Events which are not coalescing should be fired right away.");
+		assertEquals(2, buffer.size(), "The events of the same key should be merged.");
+
+		assertEquals(2, buffer.flush(), "Only the merged events should be fired.");
+		assertEquals(3, fired.size(), "Only the merged events should be fired.");
+		assertEquals(Arrays.asList(1, 3, 3), Arrays.asList(((HealthChangeEvent) fired.get(1)).entityId, ((HealthChangeEvent) fired.get(1)).health, ((HealthChangeEvent) fired.get(1)).changes),
+				"The first entity should be fired first, with its final state.");
+		assertEquals(30, ((HealthChangeEvent) fired.get(2)).health, "The second entity should be fired with its final state.");
+		assertTrue(buffer.isEmpty(), "Flushing should empty the buffer.");
+	}
+
+	@Test
+	public void growTest() {
+		List<Event> fired = new ArrayList<>();
+		EventBus eventBus = new EventBus();
+		eventBus.subscribe(HealthChangeEvent.class, fired::add);
+		CoalescingBuffer buffer = new CoalescingBuffer(eventBus);
+
+		for (int round = 0; round < 2; round++) {
+			for (int entityId = 0; entityId < 1000; entityId++)
+				buffer.post(new HealthChangeEvent(entityId, round));
+		}
+
+		assertEquals(1000, buffer.flush(), "Every entity should be fired once.");
+		for (int entityId = 0; entityId < 1000; entityId++)
+			assertEquals(entityId, ((HealthChangeEvent) fired.get(entityId)).entityId, "The events should be fired in the order they were first posted.");
+	}
+
+	@Test
+	public void postDuringFlushTest() {
+		EventBus eventBus = new EventBus();
+		CoalescingBuffer buffer = new CoalescingBuffer(eventBus);
+		eventBus.subscribe(HealthChangeEvent.class, event -> {
+			if (event.health > 0)
+				buffer.post(new HealthChangeEvent(event.entityId, event.health - 1));
+		});
+
+		buffer.post(new HealthChangeEvent(1, 2));
+		assertEquals(1, buffer.flush(), "Events posted by handlers should not be fired by the ongoing flush.");
+		assertEquals(1, buffer.size(), "Events posted by handlers should wait for the next flush.");
+		assertEquals(1, buffer.flush(), "Events posted by handlers should be fired by the next flush.");
+	}
+
+	@Test
+	public void reentrantFlushTest() {
+		EventBus eventBus = new EventBus();
+		CoalescingBuffer buffer = new CoalescingBuffer(eventBus);
+		List<Exception> failures = new ArrayList<>();
+		eventBus.subscribe(HealthChangeEvent.class, event -> {
+			buffer.post(new HealthChangeEvent(event.entityId + 1, 0));
+			try {
+				buffer.flush();
+			} catch (IllegalStateException e) {
+				failures.add(e);
+			}
+		});
+
+		buffer.post(new HealthChangeEvent(1, 0));
+		buffer.post(new HealthChangeEvent(2, 0));
+		assertEquals(2, buffer.flush(), "Both events should be fired by the outer flush.");
+		assertEquals(2, failures.size(), "Flushing from a handler should fail.");
+		assertEquals(2, buffer.size(), "Events posted by handlers should wait for the next flush.");
+	}
+
+	@Test
+	public void failedFlushTest() {
+		List<Integer> fired = new ArrayList<>();
+		EventBus eventBus = new EventBus();
+		CoalescingBuffer buffer = new CoalescingBuffer(eventBus);
+		eventBus.subscribe(HealthChangeEvent.class, event -> {
+			fired.add(event.entityId);
+			if (event.health < 0)
+				throw new IllegalStateException();
+			if (event.entityId == 1)
+				buffer.post(new HealthChangeEvent(3, 30));
+		});
+
+		for (int entityId = 1; entityId <= 3; entityId++)
+			buffer.post(new HealthChangeEvent(entityId, entityId == 2 ? -1 : 0));
+		assertThrows(RuntimeException.class, buffer::flush, "The failure of a handler should be propagated.");
+		assertEquals(Arrays.asList(1, 2), fired, "The flush should stop at the failing event.");
+		assertEquals(1, buffer.size(), "The event which has not been fired should be merged with the one posted by the handler.");
+
+		fired.clear();
+		assertEquals(1, buffer.flush(), "The remaining event should be fired by the next flush.");
+		assertEquals(Collections.singletonList(3), fired, "The remaining event should be fired by the next flush.");
+	}
+
+	public static class HealthChangeEvent extends Event implements CoalescingEvent<HealthChangeEvent> {
+
+		private final int entityId;
+		private final int health;
+		private int changes = 1;
+
+		public HealthChangeEvent(int entityId, int health) {
+			this.entityId = entityId;
+			this.health = health;
+		}
+
+		@Override
+		public long getCoalescingKey() {
+			return entityId;
+		}
+
+		@Override
+		public HealthChangeEvent coalesce(HealthChangeEvent newer) {
+			newer.changes += changes;
+			return newer;
+		}
+
+	}
+
+}
@@ -0,0 +1,65 @@
+package dev.utano.eventbus.event;
+
+import dev.utano.eventbus.EventBus;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventPoolTest {
+
+	@Test
+	public void releasedEventIsReusedAndResetTest() {
+		EventPool<CancellableTestEvent> pool = new EventPool<>(CancellableTestEvent::new, 4, false);
+
+		CancellableTestEvent event = pool.acquire();
+		event.setCancelled(true);
+		event.stopImmediatePropagation();
+		event.seal();
+		pool.release(event);
+
+		CancellableTestEvent reused = pool.acquire();
+		assertSame(event, reused, "The released event should be reused.");
+		assertFalse(reused.isCancelled(), "Releasing should reset the cancelled flag.");
+		assertFalse(reused.isStopImmediatePropagation(), "Releasing should reset the stop immediate propagation flag.");
+		assertFalse(reused.isSealed(), "Releasing should reset the seal.");
+		assertNotSame(reused, pool.acquire(), "An event should not be handed out twice.");
+	}
+
+	@Test
+	public void onReleaseTest() {
+		EventPool<StatefulEvent> pool = new EventPool<>(StatefulEvent::new, 4, false);
+
+		StatefulEvent event = pool.acquire();
+		event.value = 42;
+		pool.release(event);
+		assertEquals(0, pool.acquire().value, "Releasing should let the event clear its own state.");
+	}
+
+	@Test
+	public void debugGuardTest() {
+		EventPool<CancellableTestEvent> pool = new EventPool<>(CancellableTestEvent::new, 4, true);
+
+		CancellableTestEvent event = pool.acquire();
+		pool.release(event);
+
+		assertThrows(IllegalStateException.class, () -> event.setCancelled(true), "Modifying a released event should fail in debug mode.");
+		assertThrows(IllegalStateException.class, () -> new EventBus().fireEvent(event), "Firing a released event should fail in debug mode.");
+		assertThrows(IllegalStateException.class, () -> pool.release(event), "Releasing an event twice should fail in debug mode.");
+
+		CancellableTestEvent reused = pool.acquire();
+		reused.setCancelled(true);
+		assertTrue(reused.isCancelled(), "A reacquired event should be usable again.");
+	}
+
+	public static class StatefulEvent extends Event {
+
+		private int value;
+
+		@Override
+		protected void onRelease() {
+			value = 0;
+		}
+
+	}
+
+}
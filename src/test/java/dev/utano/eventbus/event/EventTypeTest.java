@@ -0,0 +1,27 @@
+package dev.utano.eventbus.event;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventTypeTest {
+
+	@Test
+	public void supertypesTest() {
+		EventType deepest = EventType.of(HierarchyEvents.CancellableLevel7.class);
+
+		assertTrue(deepest.isSubtypeOf(deepest), "A type should be a subtype of itself.");
+		assertTrue(deepest.isSubtypeOf(EventType.of(HierarchyEvents.CancellableLevel0.class)), "Superclasses should be resolved.");
+		assertTrue(deepest.isSubtypeOf(EventType.of(Event.class)), "Superclasses should be resolved up to Event.");
+		assertTrue(deepest.isCancellable(), "Interfaces of superclasses should be resolved.");
+		assertFalse(deepest.isSubtypeOf(EventType.of(HierarchyEvents.Level0.class)), "Unrelated types should not match.");
+		assertFalse(EventType.of(TestEvent.class).isCancellable(), "Non-cancellable events should not match Cancellable.");
+	}
+
+	@Test
+	public void sharedInstanceTest() {
+		assertSame(EventType.of(TestEvent.class), EventType.of(TestEvent.class), "Types should be resolved once per class.");
+		assertNotEquals(EventType.of(TestEvent.class).getId(), EventType.of(CancellableTestEvent.class).getId(), "Every type should have its own id.");
+	}
+
+}
@@ -0,0 +1,84 @@
+package dev.utano.eventbus.event;
+
+/**
+ * Two parallel chains of events, {@link Level0} to {@link Level7} and {@link CancellableLevel0} to {@link CancellableLevel7},
+ * used to benchmark the dispatch of events with deep class hierarchies.
+ */
+public final class HierarchyEvents {
+
+	/**
+	 * The depth of the deepest event of each chain.
+	 */
+	public static final int MAX_DEPTH = 8;
+
+	private static final Class<?>[] LEVELS = {Level0.class, Level1.class, Level2.class, Level3.class, Level4.class, Level5.class, Level6.class, Level7.class};
+	private static final Class<?>[] CANCELLABLE_LEVELS = {CancellableLevel0.class, CancellableLevel1.class, CancellableLevel2.class, CancellableLevel3.class,
+			CancellableLevel4.class, CancellableLevel5.class, CancellableLevel6.class, CancellableLevel7.class};
+
+	private HierarchyEvents() {
+	}
+
+	/**
+	 * Creates an event of the specified depth.
+	 *
+	 * @param depth       The number of event classes between {@link TestEvent} and the created event, from 1 to {@value #MAX_DEPTH}.
+	 * @param cancellable Whether the event has to be taken from the cancellable chain.
+	 * @return The created event.
+	 */
+	public static Event create(int depth, boolean cancellable) {
+		try {
+			return (Event) (cancellable ? CANCELLABLE_LEVELS : LEVELS)[depth - 1].getConstructor().newInstance();
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	public static class Level0 extends TestEvent {
+	}
+
+	public static class Level1 extends Level0 {
+	}
+
+	public static class Level2 extends Level1 {
+	}
+
+	public static class Level3 extends Level2 {
+	}
+
+	public static class Level4 extends Level3 {
+	}
+
+	public static class Level5 extends Level4 {
+	}
+
+	public static class Level6 extends Level5 {
+	}
+
+	public static class Level7 extends Level6 {
+	}
+
+	public static class CancellableLevel0 extends CancellableTestEvent {
+	}
+
+	public static class CancellableLevel1 extends CancellableLevel0 {
+	}
+
+	public static class CancellableLevel2 extends CancellableLevel1 {
+	}
+
+	public static class CancellableLevel3 extends CancellableLevel2 {
+	}
+
+	public static class CancellableLevel4 extends CancellableLevel3 {
+	}
+
+	public static class CancellableLevel5 extends CancellableLevel4 {
+	}
+
+	public static class CancellableLevel6 extends CancellableLevel5 {
+	}
+
+	public static class CancellableLevel7 extends CancellableLevel6 {
+	}
+
+}
@@ -0,0 +1,134 @@
+package dev.utano.eventbus.invoker;
+
+import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.event.TestEvent;
+import dev.utano.eventbus.listener.EventListener;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HandlerInvokersTest {
+
+	@Test
+	public void generatedInvokerTest() throws Exception {
+		Method method = PublicListener.class.getMethod("onTestEvent", TestEvent.class);
+		HandlerInvoker invoker = HandlerInvokers.create(method);
+		assertFalse(invoker instanceof ReflectiveHandlerInvoker, "A direct invoker should be generated for public methods of public classes.");
+
+		PublicListener listener = new PublicListener();
+		invoker.invoke(listener, new TestEvent());
+		assertEquals(1, listener.invocations, "The generated invoker should call the handler method.");
+	}
+
+	@Test
+	public void nonPublicListenerTest() throws Exception {
+		Method method = HiddenListener.class.getMethod("onTestEvent", TestEvent.class);
+		HandlerInvoker invoker = HandlerInvokers.create(method);
+		assertTrue(invoker instanceof MethodHandleHandlerInvoker, "Methods of non-public classes should be invoked through a method handle.");
+
+		HiddenListener listener = new HiddenListener();
+		invoker.invoke(listener, new TestEvent());
+		assertEquals(1, listener.invocations, "The method handle invoker should call the handler method.");
+	}
+
+	@Test
+	public void otherClassLoaderTest() throws Exception {
+		Class<?> listenerClass = new IsolatingClassLoader(PluginListener.class).loadClass(PluginListener.class.getName());
+		assertNotSame(PluginListener.class, listenerClass, "The listener class should be defined by the isolating class loader.");
+
+		Method method = listenerClass.getMethod("onTestEvent", TestEvent.class);
+		HandlerInvoker invoker = HandlerInvokers.create(method);
+		assertTrue(invoker instanceof MethodHandleHandlerInvoker, "Listeners of other class loaders should not fall back to reflection.");
+
+		EventListener listener = (EventListener) listenerClass.getDeclaredConstructor().newInstance();
+		invoker.invoke(listener, new TestEvent());
+		Field invocations = listenerClass.getDeclaredField("invocations");
+		invocations.setAccessible(true);
+		assertEquals(1, invocations.getInt(listener), "The method handle invoker should call the handler method.");
+
+		HandlerInvoker failingInvoker = HandlerInvokers.create(listenerClass.getMethod("onFailingEvent", TestEvent.class));
+		assertThrows(IllegalStateException.class, () -> failingInvoker.invoke(listener, new TestEvent()), "The exception of the handler should be thrown as is.");
+	}
+
+	@Test
+	public void exceptionUnwrappingTest() throws NoSuchMethodException {
+		Method method = PublicListener.class.getMethod("onFailingEvent", TestEvent.class);
+		HandlerInvoker generatedInvoker = HandlerInvokers.create(method);
+		HandlerInvoker reflectiveInvoker = new ReflectiveHandlerInvoker(method);
+
+		assertThrows(IllegalStateException.class, () -> generatedInvoker.invoke(new PublicListener(), new TestEvent()));
+		assertThrows(IllegalStateException.class, () -> reflectiveInvoker.invoke(new PublicListener(), new TestEvent()));
+	}
+
+	public static class PublicListener implements EventListener {
+
+		private int invocations;
+
+		@EventHandler
+		public void onTestEvent(TestEvent event) {
+			invocations++;
+		}
+
+		@EventHandler
+		public void onFailingEvent(TestEvent event) {
+			throw new IllegalStateException();
+		}
+
+	}
+
+	/**
+	 * Defines its own copy of a class, like the class loader of a plugin, and delegates every other class to its parent.
+	 */
+	private static class IsolatingClassLoader extends ClassLoader {
+
+		private final String isolatedName;
+
+		private IsolatingClassLoader(Class<?> isolatedClass) {
+			super(isolatedClass.getClassLoader());
+			this.isolatedName = isolatedClass.getName();
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			if (!name.equals(isolatedName))
+				return super.loadClass(name, resolve);
+
+			synchronized (getClassLoadingLock(name)) {
+				Class<?> loaded = findLoadedClass(name);
+				if (loaded != null)
+					return loaded;
+
+				try (InputStream input = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+					if (input == null)
+						throw new ClassNotFoundException(name);
+					ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+					byte[] buffer = new byte[4096];
+					for (int read; (read = input.read(buffer)) != -1; )
+						bytes.write(buffer, 0, read);
+					return defineClass(name, bytes.toByteArray(), 0, bytes.size());
+				} catch (IOException e) {
+					throw new ClassNotFoundException(name, e);
+				}
+			}
+		}
+
+	}
+
+	static class HiddenListener implements EventListener {
+
+		private int invocations;
+
+		@EventHandler
+		public void onTestEvent(TestEvent event) {
+			invocations++;
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package dev.utano.eventbus.invoker;
+
+import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.event.TestEvent;
+import dev.utano.eventbus.listener.EventListener;
+
+/**
+ * A top-level listener, so that {@link HandlerInvokersTest} can define a copy of it in another class loader.
+ */
+public class PluginListener implements EventListener {
+
+	private int invocations;
+
+	@EventHandler
+	public void onTestEvent(TestEvent event) {
+		invocations++;
+	}
+
+	@EventHandler
+	public void onFailingEvent(TestEvent event) {
+		throw new IllegalStateException();
+	}
+
+}
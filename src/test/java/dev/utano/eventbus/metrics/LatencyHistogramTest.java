@@ -0,0 +1,39 @@
+package dev.utano.eventbus.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+
+	@Test
+	public void bucketBoundsTest() {
+		long[] values = {0, 1, 15, 16, 17, 31, 32, 1_000, 123_456_789, Long.MAX_VALUE};
+		for (long value : values) {
+			int index = LatencyHistogram.bucketIndex(value);
+			assertTrue(LatencyHistogram.highestValue(index) >= value, "The bucket of " + value + " should contain it.");
+			if (index > 0)
+				assertTrue(LatencyHistogram.highestValue(index - 1) < value, "The previous bucket of " + value + " should not contain it.");
+		}
+	}
+
+	@Test
+	public void percentileTest() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 1; i <= 1000; i++)
+			histogram.record(i * 1000L);
+
+		assertEquals(1000, histogram.getCount(), "Every latency should be counted.");
+		assertEquals(1_000_000, histogram.getMax(), "The highest latency should be exact.");
+		assertEquals(500_500, histogram.getMean(), 0.001, "The mean should be exact.");
+
+		long p50 = histogram.getPercentile(50);
+		assertTrue(p50 >= 500_000 && p50 < 500_000 + 500_000 / LatencyHistogram.SUB_BUCKET_COUNT, "The median should be reported within the precision of the histogram.");
+		assertEquals(1_000_000, histogram.getPercentile(100), "The 100th percentile should be the highest latency.");
+
+		histogram.reset();
+		assertEquals(0, histogram.getCount(), "Resetting should clear the count.");
+		assertEquals(0, histogram.getPercentile(99), "An empty histogram should report 0.");
+	}
+
+}
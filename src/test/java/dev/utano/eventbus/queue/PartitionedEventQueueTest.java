@@ -0,0 +1,150 @@
+package dev.utano.eventbus.queue;
+
+import dev.utano.eventbus.EventBus;
+import dev.utano.eventbus.annotation.EventHandler;
+import dev.utano.eventbus.event.Event;
+import dev.utano.eventbus.listener.EventListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PartitionedEventQueueTest {
+
+	@Test
+	public void orderWithinPartitionTest() throws InterruptedException {
+		EventBus eventBus = new EventBus();
+		RecordingListener listener = new RecordingListener();
+		eventBus.register(listener);
+		PartitionedEventQueue queue = new PartitionedEventQueue(eventBus, 2);
+
+		int producers = 4;
+		int eventsPerProducer = 5_000;
+		Thread[] threads = new Thread[producers];
+		for (int p = 0; p < producers; p++) {
+			int producer = p;
+			threads[p] = new Thread(() -> {
+				for (int i = 0; i < eventsPerProducer; i++)
+					queue.post(0, new SequencedEvent(producer, i));
+			});
+			threads[p].start();
+		}
+
+		int drained = 0;
+		while (drained < producers * eventsPerProducer)
+			drained += queue.getPartition(0).drain();
+		for (Thread thread : threads)
+			thread.join();
+
+		assertEquals(producers * eventsPerProducer, listener.events.size(), "Every posted event should be fired once.");
+		int[] nextSequence = new int[producers];
+		for (SequencedEvent event : listener.events)
+			assertEquals(nextSequence[event.producer]++, event.sequence, "The events of a producer should be fired in order.");
+		assertTrue(queue.getPartition(1).isEmpty(), "The other partition should not receive any event.");
+	}
+
+	@Test
+	public void drainDefersReentrantPostsTest() {
+		EventBus eventBus = new EventBus();
+		PartitionedEventQueue queue = new PartitionedEventQueue(eventBus, 1);
+		EventPartition partition = queue.getPartition(0);
+		eventBus.register(new RepostingListener(partition));
+
+		partition.post(new SequencedEvent(0, 0));
+		assertEquals(1, partition.drain(), "Only the event posted before the drain should be fired.");
+		assertFalse(partition.isEmpty(), "The event posted by the handler should wait for the next drain.");
+		assertEquals(1, partition.drain(), "The reposted event should be fired on the next drain.");
+	}
+
+	@Test
+	public void ownerTest() throws InterruptedException {
+		EventPartition partition = new PartitionedEventQueue(new EventBus(), 1).getPartition(0);
+		partition.setOwner(Thread.currentThread());
+		partition.drain();
+
+		List<Throwable> failures = new ArrayList<>();
+		Thread thread = new Thread(() -> {
+			try {
+				partition.drain();
+			} catch (IllegalStateException e) {
+				failures.add(e);
+			}
+		});
+		thread.start();
+		thread.join();
+		assertEquals(1, failures.size(), "Only the owner should be allowed to drain the partition.");
+	}
+
+	@Test
+	public void concurrentDrainTest() throws InterruptedException {
+		EventBus eventBus = new EventBus();
+		EventPartition partition = new PartitionedEventQueue(eventBus, 1).getPartition(0);
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		eventBus.subscribe(SequencedEvent.class, event -> {
+			entered.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+
+		partition.post(new SequencedEvent(0, 0));
+		partition.post(new SequencedEvent(0, 1));
+		int[] drained = new int[1];
+		Thread thread = new Thread(() -> drained[0] = partition.drain());
+		thread.start();
+		assertTrue(entered.await(10, TimeUnit.SECONDS), "The first drain should fire the first event.");
+
+		assertThrows(IllegalStateException.class, partition::drain, "A partition should not be drained by two threads at once.");
+		release.countDown();
+		thread.join();
+		assertEquals(2, drained[0], "The first drain should fire every event exactly once.");
+		assertEquals(0, partition.drain(), "Once the first drain is over, the partition should be drainable again.");
+	}
+
+	public static class SequencedEvent extends Event {
+
+		private final int producer;
+		private final int sequence;
+
+		public SequencedEvent(int producer, int sequence) {
+			this.producer = producer;
+			this.sequence = sequence;
+		}
+
+	}
+
+	public static class RecordingListener implements EventListener {
+
+		private final List<SequencedEvent> events = new ArrayList<>();
+
+		@EventHandler
+		public void onSequencedEvent(SequencedEvent event) {
+			events.add(event);
+		}
+
+	}
+
+	public static class RepostingListener implements EventListener {
+
+		private final EventPartition partition;
+
+		public RepostingListener(EventPartition partition) {
+			this.partition = partition;
+		}
+
+		@EventHandler
+		public void onSequencedEvent(SequencedEvent event) {
+			if (event.sequence == 0)
+				partition.post(new SequencedEvent(event.producer, 1));
+		}
+
+	}
+
+}